@@ -1,5 +1,6 @@
 package com.app.docflow.tools;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.InputStream;
@@ -10,7 +11,9 @@ import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -21,18 +24,28 @@ public final class DocumentGeneratorCli {
     private static final String PROP_N = "n";
     private static final String PROP_BASE_URL = "baseUrl";
     private static final String PROP_AUTHOR = "author";
+    private static final String PROP_BENCHMARK_BATCH_SIZE = "benchmarkBatchSize";
     private static final String DEFAULT_BASE_URL = "http://localhost:8080/docflow-service";
     private static final String DEFAULT_AUTHOR = "generator";
     private static final String DOCUMENTS_API_PATH = "/api/v1/documents";
+    private static final String SUBMIT_API_PATH = DOCUMENTS_API_PATH + "/submit";
+    private static final String APPROVE_API_PATH = DOCUMENTS_API_PATH + "/approve";
     private static final String CONTENT_TYPE_HEADER = "Content-Type";
     private static final String CONTENT_TYPE_JSON = "application/json";
     private static final String TITLE_FIELD = "title";
     private static final String AUTHOR_FIELD = "author";
     private static final String CONTENT_FIELD = "content";
+    private static final String ID_FIELD = "id";
+    private static final String IDS_FIELD = "ids";
+    private static final String RESULTS_FIELD = "results";
+    private static final String STATUS_FIELD = "status";
+    private static final String SUCCESS_STATUS = "SUCCESS";
     private static final String GENERATED_TITLE_PREFIX = "Generated document #";
     private static final String GENERATED_CONTENT = "Generated by utility";
     private static final int HTTP_ERROR_STATUS_THRESHOLD = 300;
     private static final int PROGRESS_PARTS = 10;
+    private static final int SUBMIT_ROWS_PER_DOCUMENT = 2;
+    private static final int APPROVE_ROWS_PER_DOCUMENT = 3;
     private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(10);
 
     private DocumentGeneratorCli() {
@@ -52,11 +65,14 @@ public final class DocumentGeneratorCli {
         int n = Integer.parseInt(props.getProperty(PROP_N));
         String baseUrl = normalizeBaseUrl(props.getProperty(PROP_BASE_URL, DEFAULT_BASE_URL));
         String author = props.getProperty(PROP_AUTHOR, DEFAULT_AUTHOR);
+        int benchmarkBatchSize = Integer.parseInt(props.getProperty(PROP_BENCHMARK_BATCH_SIZE, "0"));
         HttpClient client = HttpClient.newBuilder().connectTimeout(HTTP_TIMEOUT).build();
         ObjectMapper mapper = new ObjectMapper();
 
         long started = System.currentTimeMillis();
 
+        List<String> ids = new ArrayList<>(n);
+
         System.out.println("Generator: creating N=" + n + " documents");
 
         for (int i = 1; i <= n; i++) {
@@ -84,12 +100,63 @@ public final class DocumentGeneratorCli {
                 throw new IllegalStateException("Create failed at i=" + i + ", status=" + response.statusCode() + ", body=" + response.body());
             }
 
+            ids.add(mapper.readTree(response.body()).path(ID_FIELD).asText());
+
             if (i == 1 || i == n || i % Math.max(1, n / PROGRESS_PARTS) == 0) {
                 System.out.println("Progress: " + i + "/" + n);
             }
         }
 
         System.out.println("Generator done in ms=" + (System.currentTimeMillis() - started));
+
+        if (benchmarkBatchSize > 0) {
+            runBatchPhase(client, mapper, baseUrl + SUBMIT_API_PATH, ids, benchmarkBatchSize, "Submit", SUBMIT_ROWS_PER_DOCUMENT);
+            runBatchPhase(client, mapper, baseUrl + APPROVE_API_PATH, ids, benchmarkBatchSize, "Approve", APPROVE_ROWS_PER_DOCUMENT);
+        }
+    }
+
+    private static void runBatchPhase(
+            HttpClient client,
+            ObjectMapper mapper,
+            String url,
+            List<String> ids,
+            int batchSize,
+            String phase,
+            int rowsPerDocument
+    ) throws Exception {
+        long started = System.currentTimeMillis();
+        int succeeded = 0;
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(url))
+                    .timeout(HTTP_TIMEOUT)
+                    .header(CONTENT_TYPE_HEADER, CONTENT_TYPE_JSON)
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(Map.of(IDS_FIELD, batch))))
+                    .build();
+
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() >= HTTP_ERROR_STATUS_THRESHOLD) {
+                throw new IllegalStateException(phase + " failed at offset=" + from + ", status=" + response.statusCode() + ", body=" + response.body());
+            }
+
+            for (JsonNode result : mapper.readTree(response.body()).path(RESULTS_FIELD)) {
+                if (SUCCESS_STATUS.equals(result.path(STATUS_FIELD).asText())) {
+                    succeeded++;
+                }
+            }
+        }
+
+        long elapsedMs = Math.max(1, System.currentTimeMillis() - started);
+
+        System.out.println(phase + ": documents=" + succeeded + "/" + ids.size()
+                + ", batchSize=" + batchSize
+                + ", ms=" + elapsedMs
+                + ", documents/s=" + (succeeded * 1000L / elapsedMs)
+                + ", rows/s=" + (succeeded * rowsPerDocument * 1000L / elapsedMs));
     }
 
     private static String normalizeBaseUrl(String baseUrl) {
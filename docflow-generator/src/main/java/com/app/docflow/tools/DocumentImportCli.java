@@ -0,0 +1,167 @@
+package com.app.docflow.tools;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Properties;
+
+public final class DocumentImportCli {
+
+    private static final String USAGE_MESSAGE = "Usage: DocumentImportCli <import.properties>";
+    private static final String PROP_FILE = "file";
+    private static final String PROP_FORMAT = "format";
+    private static final String PROP_BASE_URL = "baseUrl";
+    private static final String PROP_AFTER_RECORD = "afterRecord";
+    private static final String DEFAULT_BASE_URL = "http://localhost:8080/docflow-service";
+    private static final String IMPORT_API_PATH = "/api/v1/documents/_import?format=";
+    private static final String AFTER_RECORD_PARAM = "&afterRecord=";
+    private static final String STATUS_ABORTED = "ABORTED";
+    private static final String FORMAT_CSV = "CSV";
+    private static final String FORMAT_NDJSON = "NDJSON";
+    private static final String CSV_EXTENSION_MARKER = ".csv";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String CONTENT_TYPE_OCTET_STREAM = "application/octet-stream";
+    private static final int HTTP_ERROR_STATUS_THRESHOLD = 300;
+    private static final int PROGRESS_PARTS = 10;
+    private static final int MAX_PRINTED_REJECTIONS = 20;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private DocumentImportCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException(USAGE_MESSAGE);
+        }
+
+        Properties props = new Properties();
+
+        try (InputStream in = Files.newInputStream(Path.of(args[0]))) {
+            props.load(in);
+        }
+
+        Path file = Path.of(props.getProperty(PROP_FILE));
+        String format = props.getProperty(PROP_FORMAT, detectFormat(file)).trim().toUpperCase(Locale.ROOT);
+        String baseUrl = props.getProperty(PROP_BASE_URL, DEFAULT_BASE_URL).trim().replaceAll("/+$", "");
+        long afterRecord = Long.parseLong(props.getProperty(PROP_AFTER_RECORD, "0").trim());
+        long size = Files.size(file);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).build();
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + IMPORT_API_PATH + format + AFTER_RECORD_PARAM + afterRecord))
+                .header(CONTENT_TYPE_HEADER, CONTENT_TYPE_OCTET_STREAM)
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> openWithProgress(file, size)))
+                .build();
+
+        long started = System.currentTimeMillis();
+
+        System.out.println("Import: file=" + file + ", format=" + format + ", bytes=" + size + ", afterRecord=" + afterRecord);
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsedMs = Math.max(1, System.currentTimeMillis() - started);
+
+        if (response.statusCode() >= HTTP_ERROR_STATUS_THRESHOLD) {
+            throw new IllegalStateException("Import failed, status=" + response.statusCode() + ", body=" + response.body());
+        }
+
+        JsonNode result = new ObjectMapper().readTree(response.body());
+        long imported = result.path("imported").asLong();
+        String status = result.path("status").asText();
+        long lastCommittedRecord = result.path("lastCommittedRecordNumber").asLong();
+
+        System.out.println("Import " + status + ": imported=" + imported
+                + ", rejected=" + result.path("rejected").asLong()
+                + ", lastCommittedRecord=" + lastCommittedRecord
+                + ", ms=" + elapsedMs
+                + ", documents/s=" + (imported * 1000L / elapsedMs));
+
+        int printed = 0;
+
+        for (JsonNode rejection : result.path("rejections")) {
+            if (printed++ == MAX_PRINTED_REJECTIONS) {
+                break;
+            }
+
+            System.out.println("Rejected record " + rejection.path("recordNumber").asLong() + ": " + rejection.path("reason").asText());
+        }
+
+        if (STATUS_ABORTED.equals(status)) {
+            System.out.println("Import aborted: " + result.path("error").asText()
+                    + ". Records up to " + lastCommittedRecord + " are committed; resume with "
+                    + PROP_AFTER_RECORD + "=" + lastCommittedRecord);
+            throw new IllegalStateException("Import aborted after record " + lastCommittedRecord);
+        }
+    }
+
+    private static String detectFormat(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).contains(CSV_EXTENSION_MARKER) ? FORMAT_CSV : FORMAT_NDJSON;
+    }
+
+    private static InputStream openWithProgress(Path file, long size) {
+        try {
+            return new ProgressInputStream(Files.newInputStream(file), size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class ProgressInputStream extends FilterInputStream {
+
+        private final long size;
+        private final long step;
+        private long read;
+        private long nextReport;
+
+        private ProgressInputStream(InputStream in, long size) {
+            super(in);
+            this.size = size;
+            this.step = Math.max(1, size / PROGRESS_PARTS);
+            this.nextReport = step;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+
+            if (value >= 0) {
+                advance(1);
+            }
+
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+
+            if (count > 0) {
+                advance(count);
+            }
+
+            return count;
+        }
+
+        private void advance(long count) {
+            read += count;
+
+            if (read >= nextReport) {
+                System.out.println("Progress: sent " + read + "/" + size + " bytes");
+                nextReport += step;
+            }
+        }
+
+    }
+
+}
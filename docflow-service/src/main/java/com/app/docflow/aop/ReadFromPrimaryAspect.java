@@ -0,0 +1,27 @@
+package com.app.docflow.aop;
+
+import com.app.docflow.infrastructure.datasource.PrimaryReadRouting;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadFromPrimaryAspect {
+
+    @Around("@annotation(com.app.docflow.aop.ReadFromPrimary)")
+    public Object readFromPrimary(ProceedingJoinPoint pjp) throws Throwable {
+        boolean previous = PrimaryReadRouting.requirePrimary();
+
+        try {
+            return pjp.proceed();
+        } finally {
+            PrimaryReadRouting.restore(previous);
+        }
+    }
+
+}
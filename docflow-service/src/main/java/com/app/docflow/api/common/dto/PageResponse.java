@@ -1,12 +1,17 @@
 package com.app.docflow.api.common.dto;
 
+import com.app.docflow.domain.document.CountMode;
+
 import java.util.List;
 
 public record PageResponse<T>(
         List<T> items,
-        long totalElements,
-        int page,
+        Long totalElements,
+        Integer page,
         int size,
-        int totalPages
+        Integer totalPages,
+        boolean hasNext,
+        String nextCursor,
+        CountMode countMode
 ) {
 }
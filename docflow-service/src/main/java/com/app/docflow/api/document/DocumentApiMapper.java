@@ -6,30 +6,45 @@ import com.app.docflow.api.document.dto.BatchItemResultResponse;
 import com.app.docflow.api.document.dto.BatchOperationResponse;
 import com.app.docflow.api.document.dto.ConcurrencyApprovalCheckResponse;
 import com.app.docflow.api.document.dto.CreateDocumentRequest;
+import com.app.docflow.api.document.dto.DeadLetterResponse;
 import com.app.docflow.api.document.dto.DocumentDetailsResponse;
 import com.app.docflow.api.document.dto.DocumentHistoryResponse;
+import com.app.docflow.api.document.dto.DocumentImportResponse;
 import com.app.docflow.api.document.dto.DocumentResponse;
+import com.app.docflow.api.document.dto.DocumentStatsResponse;
+import com.app.docflow.api.document.dto.DocumentSummaryResponse;
 import com.app.docflow.application.document.command.model.BatchOperationResult;
 import com.app.docflow.application.document.concurrency.model.ConcurrencyApprovalCheckResult;
+import com.app.docflow.application.document.importing.model.DocumentImportResult;
 import com.app.docflow.application.document.command.model.CreateDocumentCommand;
 import com.app.docflow.application.document.query.model.DocumentDetailsView;
 import com.app.docflow.domain.document.ApprovalRegistryRecord;
 import com.app.docflow.domain.document.Document;
 import com.app.docflow.domain.document.DocumentHistoryEntry;
 import com.app.docflow.domain.document.DocumentPage;
+import com.app.docflow.domain.document.DocumentProcessingFailure;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentSummary;
 import org.mapstruct.Mapper;
 
 import java.util.List;
+import java.util.Map;
 
 @Mapper(componentModel = "spring")
 public interface DocumentApiMapper {
 
     CreateDocumentCommand toCommand(CreateDocumentRequest request);
 
+    List<CreateDocumentCommand> toCommands(List<CreateDocumentRequest> requests);
+
     DocumentResponse toResponse(Document document);
 
+    DocumentSummaryResponse toSummaryResponse(DocumentSummary summary);
+
     DocumentHistoryResponse toHistoryResponse(DocumentHistoryEntry entry);
 
+    DocumentImportResponse toImportResponse(DocumentImportResult result);
+
     default ApprovalRegistryResponse toRegistryResponse(ApprovalRegistryRecord record) {
         if (record == null) {
             return null;
@@ -48,7 +63,14 @@ public interface DocumentApiMapper {
 
     default PageResponse<DocumentResponse> toPageResponse(DocumentPage<Document> page) {
         List<DocumentResponse> items = page.items().stream().map(this::toResponse).toList();
-        return new PageResponse<>(items, page.totalElements(), page.page(), page.size(), page.totalPages());
+        return new PageResponse<>(items, page.totalElements(), page.page(), page.size(), page.totalPages(),
+                page.hasNext(), DocumentCursorCodec.encode(page.nextCursor()), page.countMode());
+    }
+
+    default PageResponse<DocumentSummaryResponse> toSummaryPageResponse(DocumentPage<DocumentSummary> page) {
+        List<DocumentSummaryResponse> items = page.items().stream().map(this::toSummaryResponse).toList();
+        return new PageResponse<>(items, page.totalElements(), page.page(), page.size(), page.totalPages(),
+                page.hasNext(), DocumentCursorCodec.encode(page.nextCursor()), page.countMode());
     }
 
     default BatchOperationResponse toBatchResponse(BatchOperationResult result) {
@@ -57,6 +79,21 @@ public interface DocumentApiMapper {
                 .toList());
     }
 
+    default DocumentStatsResponse toStatsResponse(Map<DocumentStatus, Long> countsByStatus) {
+        return new DocumentStatsResponse(countsByStatus, countsByStatus.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    default DeadLetterResponse toDeadLetterResponse(DocumentProcessingFailure failure) {
+        return new DeadLetterResponse(
+                failure.documentId(),
+                failure.status(),
+                failure.attempts(),
+                failure.lastResult(),
+                failure.lastError(),
+                failure.deadLetteredAt()
+        );
+    }
+
     default ConcurrencyApprovalCheckResponse toConcurrencyResponse(ConcurrencyApprovalCheckResult result) {
         return new ConcurrencyApprovalCheckResponse(
                 result.totalAttempts(),
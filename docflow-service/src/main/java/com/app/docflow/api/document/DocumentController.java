@@ -1,25 +1,41 @@
 package com.app.docflow.api.document;
 
 import com.app.docflow.api.common.dto.PageResponse;
+import com.app.docflow.api.document.dto.BatchCreateDocumentsRequest;
 import com.app.docflow.api.document.dto.BatchGetDocumentsRequest;
 import com.app.docflow.api.document.dto.BatchIdsRequest;
 import com.app.docflow.api.document.dto.BatchOperationResponse;
 import com.app.docflow.api.document.dto.ConcurrencyApprovalCheckRequest;
 import com.app.docflow.api.document.dto.ConcurrencyApprovalCheckResponse;
 import com.app.docflow.api.document.dto.CreateDocumentRequest;
+import com.app.docflow.api.document.dto.DeadLetterResponse;
 import com.app.docflow.api.document.dto.DocumentDetailsResponse;
+import com.app.docflow.api.document.dto.DocumentImportResponse;
 import com.app.docflow.api.document.dto.DocumentResponse;
+import com.app.docflow.api.document.dto.DocumentStatsResponse;
+import com.app.docflow.api.document.dto.DocumentStatusAwaitResponse;
 import com.app.docflow.application.document.concurrency.ConcurrencyApprovalCheckService;
 import com.app.docflow.application.document.command.DocumentCommandService;
+import com.app.docflow.application.document.failure.DocumentProcessingFailureService;
+import com.app.docflow.application.document.importing.DocumentImportFormat;
+import com.app.docflow.application.document.importing.DocumentImportService;
 import com.app.docflow.application.document.query.DocumentQueryService;
+import com.app.docflow.application.document.query.model.DocumentDetailsView;
+import com.app.docflow.domain.document.CountMode;
+import com.app.docflow.domain.document.Document;
+import com.app.docflow.domain.document.DocumentPage;
 import com.app.docflow.domain.document.DocumentSearchCriteria;
 import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentSummary;
 import com.app.docflow.domain.document.PageQuery;
 import com.app.docflow.domain.document.SortDirection;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DurationFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -28,9 +44,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping(DocumentController.BASE_PATH)
@@ -39,19 +63,29 @@ public class DocumentController {
 
     static final String BASE_PATH = "/api/v1/documents";
     private static final String ID_PATH = "/{id}";
+    private static final String AWAIT_PATH = "/{id}/await";
+    private static final String BATCH_CREATE_PATH = "/_batch-create";
+    private static final String IMPORT_PATH = "/_import";
     private static final String BATCH_GET_PATH = "/_batch-get";
     private static final String SEARCH_PATH = "/search";
+    private static final String STATS_PATH = "/stats";
     private static final String SUBMIT_PATH = "/submit";
     private static final String APPROVE_PATH = "/approve";
     private static final String CONCURRENCY_APPROVE_CHECK_PATH = "/{id}/concurrency-approve-check";
+    private static final String DEAD_LETTERS_PATH = "/dead-letters";
+    private static final String DEAD_LETTER_REQUEUE_PATH = "/dead-letters/{id}/requeue";
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 20;
     private static final String DEFAULT_SORT_BY = "createdAt";
     private static final String DEFAULT_SORT_DIR = "DESC";
+    private static final String DEFAULT_AWAIT_TIMEOUT = "30s";
+    private static final String CONTENT_FIELD = "content";
 
     private final DocumentCommandService documentCommandService;
     private final DocumentQueryService documentQueryService;
     private final ConcurrencyApprovalCheckService concurrencyApprovalCheckService;
+    private final DocumentProcessingFailureService documentProcessingFailureService;
+    private final DocumentImportService documentImportService;
     private final DocumentApiMapper mapper;
 
     @PostMapping
@@ -60,21 +94,68 @@ public class DocumentController {
         return mapper.toResponse(documentCommandService.create(mapper.toCommand(request)));
     }
 
+    @PostMapping(BATCH_CREATE_PATH)
+    public BatchOperationResponse batchCreate(@Valid @RequestBody BatchCreateDocumentsRequest request) {
+        return mapper.toBatchResponse(documentCommandService.createBatch(mapper.toCommands(request.documents())));
+    }
+
+    @PostMapping(IMPORT_PATH)
+    public DocumentImportResponse importDocuments(
+            @RequestParam(defaultValue = "NDJSON") DocumentImportFormat format,
+            @RequestParam(defaultValue = "0") long afterRecord,
+            InputStream body
+    ) {
+        return mapper.toImportResponse(documentImportService.importDocuments(body, format, afterRecord));
+    }
+
     @GetMapping(ID_PATH)
-    public DocumentDetailsResponse getOne(@PathVariable UUID id) {
-        return mapper.toDetailsResponse(documentQueryService.getDocument(id));
+    public ResponseEntity<DocumentDetailsResponse> getOne(@PathVariable UUID id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(DocumentETags.forVersion(documentQueryService.getDocumentVersion(id)))) {
+            return null;
+        }
+
+        DocumentDetailsView view = documentQueryService.getDocument(id);
+        return ResponseEntity.ok()
+                .eTag(DocumentETags.forVersion(view.document().getVersion()))
+                .body(mapper.toDetailsResponse(view));
+    }
+
+    @GetMapping(AWAIT_PATH)
+    public DeferredResult<DocumentStatusAwaitResponse> awaitStatus(
+            @PathVariable UUID id,
+            @RequestParam DocumentStatus status,
+            @RequestParam(defaultValue = DEFAULT_AWAIT_TIMEOUT) @DurationFormat(style = DurationFormat.Style.SIMPLE) Duration timeout
+    ) {
+        CompletableFuture<DocumentStatus> reached = documentQueryService.awaitStatus(id, status, timeout);
+        DeferredResult<DocumentStatusAwaitResponse> result = new DeferredResult<>(timeout.toMillis());
+
+        result.onTimeout(() -> {
+            DocumentStatus current = documentQueryService.getDocumentStatus(id);
+            result.setResult(new DocumentStatusAwaitResponse(id, current, current.hasReached(status)));
+        });
+        result.onCompletion(() -> reached.cancel(false));
+        reached.thenAccept(current -> result.setResult(new DocumentStatusAwaitResponse(id, current, true)));
+
+        return result;
     }
 
     @PostMapping(BATCH_GET_PATH)
-    public PageResponse<DocumentResponse> batchGet(@Valid @RequestBody BatchGetDocumentsRequest request) {
-        return mapper.toPageResponse(documentQueryService.getByIds(
-                request.ids(),
-                toPageQuery(request.page(), request.size(), request.sortBy(), request.sortDir())
-        ));
+    public PageResponse<?> batchGet(
+            @Valid @RequestBody BatchGetDocumentsRequest request,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        PageQuery pageQuery = toPageQuery(request.page(), request.size(), request.sortBy(), request.sortDir(), request.cursor(), request.count());
+
+        if (includesContent(fields)) {
+            return mapper.toPageResponse(documentQueryService.getByIds(request.ids(), pageQuery));
+        }
+
+        return mapper.toSummaryPageResponse(documentQueryService.getSummariesByIds(request.ids(), pageQuery));
     }
 
     @GetMapping(SEARCH_PATH)
-    public PageResponse<DocumentResponse> search(
+    public ResponseEntity<? extends PageResponse<?>> search(
             @RequestParam(required = false) DocumentStatus status,
             @RequestParam(required = false) String author,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
@@ -82,12 +163,29 @@ public class DocumentController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = DEFAULT_SORT_BY) String sortBy,
-            @RequestParam(defaultValue = DEFAULT_SORT_DIR) String sortDir
+            @RequestParam(defaultValue = DEFAULT_SORT_DIR) String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String count,
+            @RequestParam(required = false) Set<String> fields,
+            WebRequest webRequest
     ) {
-        return mapper.toPageResponse(documentQueryService.search(
-                new DocumentSearchCriteria(null, status, author, createdFrom, createdTo),
-                toPageQuery(page, size, sortBy, sortDir)
-        ));
+        DocumentSearchCriteria criteria = new DocumentSearchCriteria(null, status, author, createdFrom, createdTo);
+        PageQuery pageQuery = toPageQuery(page, size, sortBy, sortDir, cursor, count);
+
+        if (includesContent(fields)) {
+            DocumentPage<Document> documents = documentQueryService.search(criteria, pageQuery);
+            String eTag = DocumentETags.forPage(documents, true, Document::getId, Document::getVersion);
+            return conditionalResponse(webRequest, eTag, () -> mapper.toPageResponse(documents));
+        }
+
+        DocumentPage<DocumentSummary> summaries = documentQueryService.searchSummaries(criteria, pageQuery);
+        String eTag = DocumentETags.forPage(summaries, false, DocumentSummary::id, DocumentSummary::version);
+        return conditionalResponse(webRequest, eTag, () -> mapper.toSummaryPageResponse(summaries));
+    }
+
+    @GetMapping(STATS_PATH)
+    public DocumentStatsResponse stats() {
+        return mapper.toStatsResponse(documentQueryService.getStatusCounts());
     }
 
     @PostMapping(SUBMIT_PATH)
@@ -110,15 +208,59 @@ public class DocumentController {
         );
     }
 
-    private PageQuery toPageQuery(Integer page, Integer size, String sortBy, String sortDir) {
+    @GetMapping(DEAD_LETTERS_PATH)
+    public List<DeadLetterResponse> deadLetters(@RequestParam(defaultValue = "100") int limit) {
+        return documentProcessingFailureService.getDeadLetters(limit).stream().map(mapper::toDeadLetterResponse).toList();
+    }
+
+    @PostMapping(DEAD_LETTER_REQUEUE_PATH)
+    public ResponseEntity<Void> requeueDeadLetter(@PathVariable UUID id) {
+        return documentProcessingFailureService.requeue(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private <T> ResponseEntity<T> conditionalResponse(WebRequest webRequest, String eTag, Supplier<T> body) {
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(body.get());
+    }
+
+    private boolean includesContent(Set<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return false;
+        }
+
+        for (String field : fields) {
+            if (!CONTENT_FIELD.equals(field.trim())) {
+                throw new IllegalArgumentException("Unsupported fields value: " + field);
+            }
+        }
+
+        return true;
+    }
+
+    private PageQuery toPageQuery(Integer page, Integer size, String sortBy, String sortDir, String cursor, String count) {
         return new PageQuery(
                 page == null ? DEFAULT_PAGE : page,
                 size == null ? DEFAULT_SIZE : size,
                 (sortBy == null || sortBy.isBlank()) ? DEFAULT_SORT_BY : sortBy,
-                parseSortDirection(sortDir)
+                parseSortDirection(sortDir),
+                DocumentCursorCodec.decode(cursor),
+                parseCountMode(count)
         );
     }
 
+    private CountMode parseCountMode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        return CountMode.valueOf(value.trim().toUpperCase());
+    }
+
     private SortDirection parseSortDirection(String value) {
         if (value == null || value.isBlank()) {
             return SortDirection.DESC;
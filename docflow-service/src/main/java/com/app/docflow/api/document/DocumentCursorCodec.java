@@ -0,0 +1,46 @@
+package com.app.docflow.api.document;
+
+import com.app.docflow.domain.document.DocumentCursor;
+import com.app.docflow.domain.document.SortDirection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+final class DocumentCursorCodec {
+
+    private static final String SEPARATOR = ":";
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor";
+
+    private DocumentCursorCodec() {
+    }
+
+    static String encode(DocumentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        String raw = String.join(SEPARATOR, cursor.sortBy(), cursor.sortDirection().name(), cursor.id().toString(), cursor.value());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static DocumentCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+
+            if (parts.length != 4) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+
+            return new DocumentCursor(parts[0], SortDirection.valueOf(parts[1]), parts[3], UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.app.docflow.api.document;
+
+import com.app.docflow.domain.document.DocumentPage;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Function;
+
+final class DocumentETags {
+
+    private static final char SEPARATOR = '|';
+
+    private DocumentETags() {
+    }
+
+    static String forVersion(long version) {
+        return quote(Long.toString(version));
+    }
+
+    static <T> String forPage(DocumentPage<T> page, boolean withContent, Function<T, UUID> id, Function<T, Long> version) {
+        StringBuilder state = new StringBuilder()
+                .append(withContent).append(SEPARATOR)
+                .append(page.totalElements()).append(SEPARATOR)
+                .append(page.page()).append(SEPARATOR)
+                .append(page.totalPages()).append(SEPARATOR)
+                .append(page.hasNext()).append(SEPARATOR)
+                .append(page.countMode()).append(SEPARATOR)
+                .append(DocumentCursorCodec.encode(page.nextCursor()));
+
+        for (T item : page.items()) {
+            state.append(SEPARATOR).append(id.apply(item)).append(':').append(version.apply(item));
+        }
+
+        return quote(DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.app.docflow.api.document.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchCreateDocumentsRequest(@NotEmpty @Size(min = 1, max = 1000) List<@NotNull @Valid CreateDocumentRequest> documents) {
+}
@@ -13,6 +13,8 @@ public record BatchGetDocumentsRequest(
         @Min(0) Integer page,
         @Min(1) @Max(1000) Integer size,
         String sortBy,
-        String sortDir
+        String sortDir,
+        String cursor,
+        String count
 ) {
 }
@@ -0,0 +1,16 @@
+package com.app.docflow.api.document.dto;
+
+import com.app.docflow.domain.document.DocumentStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DeadLetterResponse(
+        UUID documentId,
+        DocumentStatus status,
+        int attempts,
+        String lastResult,
+        String lastError,
+        Instant deadLetteredAt
+) {
+}
@@ -0,0 +1,4 @@
+package com.app.docflow.api.document.dto;
+
+public record DocumentImportRejectionResponse(long recordNumber, String reason) {
+}
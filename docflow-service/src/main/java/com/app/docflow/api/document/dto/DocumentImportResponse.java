@@ -0,0 +1,15 @@
+package com.app.docflow.api.document.dto;
+
+import com.app.docflow.application.document.importing.model.DocumentImportStatus;
+
+import java.util.List;
+
+public record DocumentImportResponse(
+        DocumentImportStatus status,
+        long imported,
+        long rejected,
+        long lastCommittedRecordNumber,
+        String error,
+        List<DocumentImportRejectionResponse> rejections
+) {
+}
@@ -0,0 +1,11 @@
+package com.app.docflow.api.document.dto;
+
+import com.app.docflow.domain.document.DocumentStatus;
+
+import java.util.Map;
+
+public record DocumentStatsResponse(
+        Map<DocumentStatus, Long> countsByStatus,
+        long total
+) {
+}
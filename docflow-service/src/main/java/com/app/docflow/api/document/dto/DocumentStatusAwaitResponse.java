@@ -0,0 +1,12 @@
+package com.app.docflow.api.document.dto;
+
+import com.app.docflow.domain.document.DocumentStatus;
+
+import java.util.UUID;
+
+public record DocumentStatusAwaitResponse(
+        UUID id,
+        DocumentStatus status,
+        boolean reached
+) {
+}
@@ -0,0 +1,17 @@
+package com.app.docflow.api.document.dto;
+
+import com.app.docflow.domain.document.DocumentStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DocumentSummaryResponse(
+        UUID id,
+        String number,
+        String title,
+        String author,
+        DocumentStatus status,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
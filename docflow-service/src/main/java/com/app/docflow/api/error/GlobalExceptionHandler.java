@@ -1,8 +1,10 @@
 package com.app.docflow.api.error;
 
+import com.app.docflow.application.document.query.StatusAwaitLimitExceededException;
 import com.app.docflow.domain.document.DocumentNotFoundException;
 import com.app.docflow.domain.document.InvalidDocumentStateTransitionException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -20,7 +22,9 @@ public class GlobalExceptionHandler {
     private static final String CODE_DOCUMENT_NOT_FOUND = "DOCUMENT_NOT_FOUND";
     private static final String CODE_DOCUMENT_STATUS_CONFLICT = "DOCUMENT_STATUS_CONFLICT";
     private static final String CODE_BAD_REQUEST = "BAD_REQUEST";
+    private static final String CODE_TOO_MANY_WAITERS = "TOO_MANY_WAITERS";
     private static final String CODE_INTERNAL_ERROR = "INTERNAL_ERROR";
+    private static final String RETRY_AFTER_SECONDS = "1";
     private static final String MESSAGE_VALIDATION_FAILED = "Validation failed";
     private static final String MESSAGE_UNEXPECTED_SERVER_ERROR = "Unexpected server error";
 
@@ -48,6 +52,13 @@ public class GlobalExceptionHandler {
                 .body(new ApiErrorResponse(CODE_DOCUMENT_STATUS_CONFLICT, ex.getMessage(), Map.of()));
     }
 
+    @ExceptionHandler(StatusAwaitLimitExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleTooManyWaiters(StatusAwaitLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(new ApiErrorResponse(CODE_TOO_MANY_WAITERS, ex.getMessage(), Map.of()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleBadRequest(IllegalArgumentException ex, HttpServletRequest request) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
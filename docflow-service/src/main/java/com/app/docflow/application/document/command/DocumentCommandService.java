@@ -2,9 +2,14 @@ package com.app.docflow.application.document.command;
 
 import com.app.docflow.aop.LogExecutionTime;
 import com.app.docflow.application.document.command.model.BatchOperationItemResult;
+import com.app.docflow.application.document.command.model.BatchOperationItemStatus;
 import com.app.docflow.application.document.command.model.BatchOperationResult;
 import com.app.docflow.application.document.command.model.CreateDocumentCommand;
+import com.app.docflow.application.document.query.DocumentDetailsCache;
+import com.app.docflow.application.document.query.DocumentStatusWaiters;
+import com.app.docflow.application.support.BatchItemExecutor;
 import com.app.docflow.application.support.RequiresNewTransactionRunner;
+import com.app.docflow.config.DocflowProperties;
 import com.app.docflow.domain.document.ApprovalRegistryRecord;
 import com.app.docflow.domain.document.ApprovalRegistryRepository;
 import com.app.docflow.domain.document.ApprovalRegistryNumberGenerator;
@@ -16,6 +21,8 @@ import com.app.docflow.domain.document.DocumentHistoryRepository;
 import com.app.docflow.domain.document.DocumentNotFoundException;
 import com.app.docflow.domain.document.DocumentNumberGenerator;
 import com.app.docflow.domain.document.DocumentRepository;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusNotifier;
 import com.app.docflow.domain.document.InvalidDocumentStateTransitionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -34,17 +42,20 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DocumentCommandService implements CreateDocumentUseCase {
 
-    private static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_BATCH_SIZE = 1000;
+    private static final String MESSAGE_CREATED = "Created";
     private static final String MESSAGE_SUBMITTED = "Submitted";
     private static final String MESSAGE_APPROVED = "Approved";
     private static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error";
     private static final String MESSAGE_DUPLICATE_ID_IN_REQUEST = "Duplicate document id in request";
+    private static final String MESSAGE_CONCURRENT_MODIFICATION = "Concurrent modification conflict";
 
     private final DocumentRepository documentRepository;
     private final DocumentHistoryRepository documentHistoryRepository;
@@ -53,6 +64,11 @@ public class DocumentCommandService implements CreateDocumentUseCase {
     private final ApprovalRegistryNumberGenerator approvalRegistryNumberGenerator;
     private final Clock clock;
     private final RequiresNewTransactionRunner requiresNewTransactionRunner;
+    private final BatchItemExecutor batchItemExecutor;
+    private final DocflowProperties properties;
+    private final DocumentStatusNotifier documentStatusNotifier;
+    private final DocumentDetailsCache documentDetailsCache;
+    private final DocumentStatusWaiters documentStatusWaiters;
 
     @Override
     @Transactional
@@ -74,43 +90,193 @@ public class DocumentCommandService implements CreateDocumentUseCase {
         Document saved = documentRepository.save(document);
 
         documentHistoryRepository.save(DocumentHistoryEntry.created(saved.getId(), now));
+        documentStatusNotifier.statusChanged(DocumentStatus.DRAFT);
 
         log.info("Document created: id={}, number={}", saved.getId(), saved.getNumber());
 
         return saved;
     }
 
+    @LogExecutionTime("document.createBatch")
+    public BatchOperationResult createBatch(List<CreateDocumentCommand> commands) {
+        validateBatchCommands(commands);
+
+        Instant now = Instant.now(clock);
+        List<String> numbers = documentNumberGenerator.nextDocumentNumbers(commands.size());
+        List<Document> documents = new ArrayList<>(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            CreateDocumentCommand command = commands.get(i);
+            documents.add(Document.createDraft(
+                    UUID.randomUUID(),
+                    numbers.get(i),
+                    command.title(),
+                    command.author(),
+                    command.content(),
+                    now
+            ));
+        }
+
+        List<BatchOperationItemResult> results;
+
+        try {
+            requiresNewTransactionRunner.run(status -> insertDrafts(documents, now));
+            results = documents.stream().map(document -> BatchOperationItemResult.success(document.getId(), MESSAGE_CREATED)).toList();
+        } catch (RuntimeException e) {
+            log.warn("Bulk create failed for {} documents, falling back to per-item inserts", documents.size(), e);
+            results = documents.stream()
+                    .map(document -> requiresNewTransactionRunner.run(status -> createOne(document, now, status)))
+                    .toList();
+        }
+
+        BatchOperationResult result = new BatchOperationResult(results);
+
+        if (result.successCount() > 0) {
+            documentStatusNotifier.statusChanged(DocumentStatus.DRAFT);
+        }
+
+        log.info("Documents created in batch: requested={}, created={}", documents.size(), result.successCount());
+
+        return result;
+    }
+
     @LogExecutionTime("document.submitBatch")
     public BatchOperationResult submitBatch(List<UUID> ids) {
         validateBatchIds(ids);
         Map<UUID, Document> prefetchedDocumentsById = prefetchDocumentsById(ids);
-        return new BatchOperationResult(processBatch(ids, prefetchedDocumentsById, this::submitOne));
+        return notifyStatusChanged(DocumentStatus.SUBMITTED,
+                new BatchOperationResult(processBatch(ids, prefetchedDocumentsById, this::submitOne)));
+    }
+
+    @LogExecutionTime("document.submitBatchInBulk")
+    public BatchOperationResult submitBatchInBulk(List<UUID> ids) {
+        validateBatchIds(ids);
+        List<UUID> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Set<UUID> submittedIds;
+
+        try {
+            submittedIds = new HashSet<>(requiresNewTransactionRunner.run(status -> submitDrafts(uniqueIds)));
+        } catch (RuntimeException e) {
+            log.warn("Bulk submit failed for {} documents, falling back to per-item submit", uniqueIds.size(), e);
+            return submitBatch(ids);
+        }
+
+        Map<UUID, Document> rejectedDocumentsById = submittedIds.size() == uniqueIds.size()
+                ? Map.of()
+                : prefetchDocumentsById(uniqueIds.stream().filter(id -> !submittedIds.contains(id)).toList());
+
+        List<BatchOperationItemResult> results = new ArrayList<>(ids.size());
+        Set<UUID> seenIds = new HashSet<>(ids.size());
+
+        for (UUID id : ids) {
+            if (!seenIds.add(id)) {
+                results.add(BatchOperationItemResult.conflict(id, MESSAGE_DUPLICATE_ID_IN_REQUEST));
+            } else if (submittedIds.contains(id)) {
+                results.add(BatchOperationItemResult.success(id, MESSAGE_SUBMITTED));
+            } else {
+                results.add(rejectedSubmitResult(id, rejectedDocumentsById.get(id)));
+            }
+        }
+
+        return new BatchOperationResult(results);
     }
 
     @LogExecutionTime("document.approveBatch")
     public BatchOperationResult approveBatch(List<UUID> ids) {
         validateBatchIds(ids);
         Map<UUID, Document> prefetchedDocumentsById = prefetchDocumentsById(ids);
-        return new BatchOperationResult(processBatch(ids, prefetchedDocumentsById, this::approveOne));
+        Map<UUID, String> registryNumbersById = reserveRegistryNumbers(ids, prefetchedDocumentsById);
+        BatchOperationResult result = new BatchOperationResult(processBatch(ids, prefetchedDocumentsById,
+                (id, prefetchedDocument, status) -> approveOne(id, prefetchedDocument, registryNumbersById.get(id), status)));
+        return notifyStatusChanged(DocumentStatus.APPROVED, result);
+    }
+
+    @LogExecutionTime("document.approveBatchInSingleStatements")
+    public BatchOperationResult approveBatchInSingleStatements(List<UUID> ids) {
+        validateBatchIds(ids);
+        Map<UUID, Document> prefetchedDocumentsById = prefetchDocumentsById(ids);
+        Map<UUID, String> registryNumbersById = reserveRegistryNumbers(ids, prefetchedDocumentsById);
+        BatchOperationResult result = new BatchOperationResult(processBatch(ids, prefetchedDocumentsById,
+                (id, prefetchedDocument, status) -> approveOneInSingleStatement(id, prefetchedDocument, registryNumbersById.get(id), status)));
+        return notifyStatusChanged(DocumentStatus.APPROVED, result);
     }
 
     public BatchOperationItemResult approveOneForConcurrencyCheck(UUID id) {
         return requiresNewTransactionRunner.run(status -> approveOne(id, status));
     }
 
+    private BatchOperationResult notifyStatusChanged(DocumentStatus status, BatchOperationResult result) {
+        List<UUID> changedIds = result.results().stream()
+                .filter(item -> item.status() == BatchOperationItemStatus.SUCCESS)
+                .map(BatchOperationItemResult::documentId)
+                .toList();
+
+        if (!changedIds.isEmpty()) {
+            documentStatusNotifier.statusChanged(status, changedIds);
+        }
+
+        return result;
+    }
+
     private List<BatchOperationItemResult> processBatch(
             List<UUID> ids,
             Map<UUID, Document> prefetchedDocumentsById,
             BatchItemProcessor processor
     ) {
-        List<BatchOperationItemResult> results = new ArrayList<>(ids.size());
+        BatchOperationItemResult[] results = new BatchOperationItemResult[ids.size()];
+        List<Integer> pendingIndexes = new ArrayList<>(ids.size());
         Set<UUID> seenIds = new HashSet<>(ids.size());
 
-        for (UUID id : ids) {
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+
             if (!seenIds.add(id)) {
-                results.add(BatchOperationItemResult.conflict(id, MESSAGE_DUPLICATE_ID_IN_REQUEST));
+                results[i] = BatchOperationItemResult.conflict(id, MESSAGE_DUPLICATE_ID_IN_REQUEST);
                 continue;
             }
+            pendingIndexes.add(i);
+        }
+
+        int chunkSize = Math.max(1, properties.getProcessing().getChunkSize());
+        List<List<Integer>> chunks = new ArrayList<>();
+        List<Supplier<List<BatchOperationItemResult>>> tasks = new ArrayList<>();
+
+        for (int from = 0; from < pendingIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = pendingIndexes.subList(from, Math.min(from + chunkSize, pendingIndexes.size()));
+            List<UUID> chunkIds = chunk.stream().map(ids::get).toList();
+            chunks.add(chunk);
+            tasks.add(() -> processChunk(chunkIds, prefetchedDocumentsById, processor));
+        }
+
+        List<List<BatchOperationItemResult>> chunkResults = batchItemExecutor.invokeAll(tasks);
+
+        for (int c = 0; c < chunks.size(); c++) {
+            List<Integer> chunk = chunks.get(c);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = chunkResults.get(c).get(i);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private List<BatchOperationItemResult> processChunk(
+            List<UUID> ids,
+            Map<UUID, Document> prefetchedDocumentsById,
+            BatchItemProcessor processor
+    ) {
+        if (ids.size() > 1) {
+            List<BatchOperationItemResult> committed = processChunkInSingleTransaction(ids, prefetchedDocumentsById, processor);
+
+            if (committed != null) {
+                return committed;
+            }
+        }
+
+        List<BatchOperationItemResult> results = new ArrayList<>(ids.size());
+
+        for (UUID id : ids) {
             Document prefetchedDocument = prefetchedDocumentsById.get(id);
             results.add(requiresNewTransactionRunner.run(status -> processor.process(id, prefetchedDocument, status)));
         }
@@ -118,6 +284,31 @@ public class DocumentCommandService implements CreateDocumentUseCase {
         return results;
     }
 
+    private List<BatchOperationItemResult> processChunkInSingleTransaction(
+            List<UUID> ids,
+            Map<UUID, Document> prefetchedDocumentsById,
+            BatchItemProcessor processor
+    ) {
+        try {
+            return requiresNewTransactionRunner.run(status -> {
+                List<BatchOperationItemResult> results = new ArrayList<>(ids.size());
+
+                for (UUID id : ids) {
+                    results.add(processor.process(id, prefetchedDocumentsById.get(id), status));
+
+                    if (status.isRollbackOnly()) {
+                        return null;
+                    }
+                }
+
+                return results;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Chunk commit failed for {} documents, falling back to per-item transactions", ids.size(), e);
+            return null;
+        }
+    }
+
     private Map<UUID, Document> prefetchDocumentsById(List<UUID> ids) {
         List<UUID> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
         List<Document> prefetchedDocuments = documentRepository.findAllByIds(uniqueIds);
@@ -131,12 +322,49 @@ public class DocumentCommandService implements CreateDocumentUseCase {
         return documentsById;
     }
 
+    private Map<UUID, String> reserveRegistryNumbers(List<UUID> ids, Map<UUID, Document> prefetchedDocumentsById) {
+        List<UUID> approvableIds = new LinkedHashSet<>(ids).stream()
+                .filter(id -> {
+                    Document document = prefetchedDocumentsById.get(id);
+                    return document != null && document.getStatus() == DocumentStatus.SUBMITTED;
+                })
+                .toList();
+        List<String> registryNumbers = approvalRegistryNumberGenerator.nextRegistryNumbers(approvableIds.size());
+
+        Map<UUID, String> registryNumbersById = new HashMap<>(approvableIds.size());
+
+        for (int i = 0; i < approvableIds.size(); i++) {
+            registryNumbersById.put(approvableIds.get(i), registryNumbers.get(i));
+        }
+
+        return registryNumbersById;
+    }
+
+    private List<Document> insertDrafts(List<Document> documents, Instant now) {
+        documentRepository.insertAll(documents);
+        documentHistoryRepository.saveAll(documents.stream().map(document -> DocumentHistoryEntry.created(document.getId(), now)).toList());
+        return documents;
+    }
+
+    private BatchOperationItemResult createOne(Document document, Instant now, TransactionStatus txStatus) {
+        try {
+            insertDrafts(List.of(document), now);
+            return BatchOperationItemResult.success(document.getId(), MESSAGE_CREATED);
+        } catch (RuntimeException e) {
+            txStatus.setRollbackOnly();
+            log.error("Create failed for document {}", document.getNumber(), e);
+            return BatchOperationItemResult.error(document.getId(), MESSAGE_UNEXPECTED_ERROR);
+        }
+    }
+
     private BatchOperationItemResult submitOne(UUID id, Document prefetchedDocument, TransactionStatus txStatus) {
         try {
             Document document = requirePrefetchedDocument(id, prefetchedDocument);
             Instant now = Instant.now(clock);
-            Document updated = documentRepository.save(document.submit(now));
+            Document updated = documentRepository.updateStatus(document.submit(now));
             documentHistoryRepository.save(DocumentHistoryEntry.submitted(updated.getId(), now));
+            documentDetailsCache.invalidate(updated.getId(), updated.getVersion());
+            documentStatusWaiters.statusChanged(updated.getId(), updated.getStatus());
             return BatchOperationItemResult.success(id, MESSAGE_SUBMITTED);
         } catch (DocumentNotFoundException e) {
             return BatchOperationItemResult.notFound(id, e.getMessage());
@@ -149,10 +377,42 @@ public class DocumentCommandService implements CreateDocumentUseCase {
         }
     }
 
-    private BatchOperationItemResult approveOne(UUID id, Document prefetchedDocument, TransactionStatus txStatus) {
+    private List<UUID> submitDrafts(List<UUID> ids) {
+        Instant now = Instant.now(clock);
+        List<UUID> submittedIds = documentRepository.submitDrafts(ids, now);
+        documentHistoryRepository.saveAll(submittedIds.stream().map(id -> DocumentHistoryEntry.submitted(id, now)).toList());
+        submittedIds.forEach(documentDetailsCache::invalidate);
+        submittedIds.forEach(id -> documentStatusWaiters.statusChanged(id, DocumentStatus.SUBMITTED));
+
+        if (!submittedIds.isEmpty()) {
+            documentStatusNotifier.statusChanged(DocumentStatus.SUBMITTED, submittedIds);
+        }
+
+        return submittedIds;
+    }
+
+    private BatchOperationItemResult rejectedSubmitResult(UUID id, Document document) {
+        if (document == null) {
+            return BatchOperationItemResult.notFound(id, new DocumentNotFoundException(id).getMessage());
+        }
+
+        if (document.getStatus() == DocumentStatus.DRAFT) {
+            return BatchOperationItemResult.conflict(id, MESSAGE_CONCURRENT_MODIFICATION);
+        }
+
+        return BatchOperationItemResult.conflict(id,
+                new InvalidDocumentStateTransitionException(id, document.getStatus(), DocumentStatus.SUBMITTED).getMessage());
+    }
+
+    private BatchOperationItemResult approveOne(
+            UUID id,
+            Document prefetchedDocument,
+            String reservedRegistryNumber,
+            TransactionStatus txStatus
+    ) {
         try {
             Document document = requirePrefetchedDocument(id, prefetchedDocument);
-            return approveAndRegister(id, document);
+            return approveAndRegister(id, document, reservedRegistryNumber);
         } catch (DocumentNotFoundException e) {
             return BatchOperationItemResult.notFound(id, e.getMessage());
         } catch (InvalidDocumentStateTransitionException | DocumentConflictException e) {
@@ -170,7 +430,7 @@ public class DocumentCommandService implements CreateDocumentUseCase {
     private BatchOperationItemResult approveOne(UUID id, TransactionStatus txStatus) {
         try {
             Document document = loadDocument(id);
-            return approveAndRegister(id, document);
+            return approveAndRegister(id, document, null);
         } catch (DocumentNotFoundException e) {
             return BatchOperationItemResult.notFound(id, e.getMessage());
         } catch (InvalidDocumentStateTransitionException | DocumentConflictException e) {
@@ -185,12 +445,43 @@ public class DocumentCommandService implements CreateDocumentUseCase {
         }
     }
 
-    private BatchOperationItemResult approveAndRegister(UUID id, Document document) {
+    private BatchOperationItemResult approveOneInSingleStatement(
+            UUID id,
+            Document prefetchedDocument,
+            String reservedRegistryNumber,
+            TransactionStatus txStatus
+    ) {
+        try {
+            Document document = requirePrefetchedDocument(id, prefetchedDocument);
+            Document approved = document.approve(Instant.now(clock));
+            long committedVersion = documentRepository.approveAndRegister(approved, reservedRegistryNumber);
+            documentDetailsCache.invalidate(id, committedVersion);
+            documentStatusWaiters.statusChanged(id, DocumentStatus.APPROVED);
+            return BatchOperationItemResult.success(id, MESSAGE_APPROVED);
+        } catch (DocumentNotFoundException e) {
+            return BatchOperationItemResult.notFound(id, e.getMessage());
+        } catch (InvalidDocumentStateTransitionException | DocumentConflictException e) {
+            return BatchOperationItemResult.conflict(id, e.getMessage());
+        } catch (ApprovalRegistryWriteException e) {
+            txStatus.setRollbackOnly();
+            return BatchOperationItemResult.registryError(id, e.getMessage());
+        } catch (RuntimeException e) {
+            txStatus.setRollbackOnly();
+            log.error("Approve failed for document {}", id, e);
+            return BatchOperationItemResult.error(id, MESSAGE_UNEXPECTED_ERROR);
+        }
+    }
+
+    private BatchOperationItemResult approveAndRegister(UUID id, Document document, String reservedRegistryNumber) {
         Instant now = Instant.now(clock);
-        Document approved = documentRepository.save(document.approve(now));
-        String registryNumber = approvalRegistryNumberGenerator.nextRegistryNumber();
+        Document approved = documentRepository.updateStatus(document.approve(now));
+        String registryNumber = reservedRegistryNumber != null
+                ? reservedRegistryNumber
+                : approvalRegistryNumberGenerator.nextRegistryNumber();
         approvalRegistryRepository.save(ApprovalRegistryRecord.create(approved.getId(), registryNumber, now));
         documentHistoryRepository.save(DocumentHistoryEntry.approved(approved.getId(), now));
+        documentDetailsCache.invalidate(approved.getId(), approved.getVersion());
+        documentStatusWaiters.statusChanged(approved.getId(), approved.getStatus());
         return BatchOperationItemResult.success(id, MESSAGE_APPROVED);
     }
 
@@ -207,6 +498,20 @@ public class DocumentCommandService implements CreateDocumentUseCase {
         return prefetchedDocument;
     }
 
+    private void validateBatchCommands(List<CreateDocumentCommand> commands) {
+        if (commands == null || commands.isEmpty()) {
+            throw new IllegalArgumentException("documents must not be empty");
+        }
+
+        if (commands.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("documents size must be between 1 and 1000");
+        }
+
+        if (commands.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("documents must not contain null values");
+        }
+    }
+
     private void validateBatchIds(List<UUID> ids) {
         if (ids == null || ids.isEmpty()) {
             throw new IllegalArgumentException("ids must not be empty");
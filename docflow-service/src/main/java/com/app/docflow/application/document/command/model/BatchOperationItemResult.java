@@ -24,4 +24,8 @@ public record BatchOperationItemResult(UUID documentId, BatchOperationItemStatus
         return new BatchOperationItemResult(id, BatchOperationItemStatus.ERROR, message);
     }
 
+    public boolean isError() {
+        return status == BatchOperationItemStatus.ERROR || status == BatchOperationItemStatus.REGISTRY_ERROR;
+    }
+
 }
@@ -10,4 +10,10 @@ public record BatchOperationResult(List<BatchOperationItemResult> results) {
                 .count();
     }
 
+    public int errorCount() {
+        return (int) results.stream()
+                .filter(BatchOperationItemResult::isError)
+                .count();
+    }
+
 }
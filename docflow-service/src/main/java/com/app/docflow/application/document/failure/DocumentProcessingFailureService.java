@@ -0,0 +1,31 @@
+package com.app.docflow.application.document.failure;
+
+import com.app.docflow.domain.document.DocumentProcessingFailure;
+import com.app.docflow.domain.document.DocumentProcessingFailureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class DocumentProcessingFailureService {
+
+    private static final int MAX_DEAD_LETTERS_LIMIT = 1000;
+
+    private final DocumentProcessingFailureRepository failureRepository;
+
+    public List<DocumentProcessingFailure> getDeadLetters(int limit) {
+        if (limit < 1 || limit > MAX_DEAD_LETTERS_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_DEAD_LETTERS_LIMIT);
+        }
+
+        return failureRepository.findDeadLettered(limit);
+    }
+
+    public boolean requeue(UUID documentId) {
+        return failureRepository.requeue(documentId);
+    }
+
+}
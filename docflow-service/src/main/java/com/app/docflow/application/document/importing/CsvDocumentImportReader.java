@@ -0,0 +1,153 @@
+package com.app.docflow.application.document.importing;
+
+import com.app.docflow.application.document.importing.model.DocumentImportRecord;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class CsvDocumentImportReader implements DocumentImportReader {
+
+    private static final String TITLE_COLUMN = "title";
+    private static final String AUTHOR_COLUMN = "author";
+    private static final String CONTENT_COLUMN = "content";
+
+    private final Reader reader;
+    private int titleIndex = -1;
+    private int authorIndex = -1;
+    private int contentIndex = -1;
+    private long recordNumber;
+    private int pushedBack = -2;
+
+    private CsvDocumentImportReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    static CsvDocumentImportReader open(Reader reader) throws IOException {
+        CsvDocumentImportReader csvReader = new CsvDocumentImportReader(reader);
+        csvReader.readHeader();
+        return csvReader;
+    }
+
+    @Override
+    public DocumentImportRecord next() throws IOException {
+        List<String> fields;
+
+        do {
+            fields = readRecord();
+
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        recordNumber++;
+
+        if (fields.get(fields.size() - 1) == null) {
+            return DocumentImportRecord.malformed(recordNumber, "Unterminated quoted field");
+        }
+
+        return DocumentImportRecord.valid(recordNumber, field(fields, titleIndex), field(fields, authorIndex), field(fields, contentIndex));
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+
+        if (header == null) {
+            return;
+        }
+
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i) == null ? "" : header.get(i).trim().toLowerCase(Locale.ROOT);
+
+            switch (column) {
+                case TITLE_COLUMN -> titleIndex = i;
+                case AUTHOR_COLUMN -> authorIndex = i;
+                case CONTENT_COLUMN -> contentIndex = i;
+                default -> {
+                }
+            }
+        }
+
+        if (titleIndex < 0 || authorIndex < 0) {
+            throw new IllegalArgumentException("CSV header must contain title and author columns");
+        }
+    }
+
+    private String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+
+        String value = fields.get(index);
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = read();
+
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(null);
+                    return fields;
+                }
+
+                if (c == '"') {
+                    int next = read();
+
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int next = read();
+
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+
+        return reader.read();
+    }
+
+}
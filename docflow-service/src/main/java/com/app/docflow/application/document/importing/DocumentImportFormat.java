@@ -0,0 +1,6 @@
+package com.app.docflow.application.document.importing;
+
+public enum DocumentImportFormat {
+    NDJSON,
+    CSV
+}
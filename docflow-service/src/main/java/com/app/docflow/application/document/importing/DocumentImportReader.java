@@ -0,0 +1,11 @@
+package com.app.docflow.application.document.importing;
+
+import com.app.docflow.application.document.importing.model.DocumentImportRecord;
+
+import java.io.IOException;
+
+interface DocumentImportReader {
+
+    DocumentImportRecord next() throws IOException;
+
+}
@@ -0,0 +1,202 @@
+package com.app.docflow.application.document.importing;
+
+import com.app.docflow.aop.LogExecutionTime;
+import com.app.docflow.application.document.importing.model.DocumentImportRecord;
+import com.app.docflow.application.document.importing.model.DocumentImportRejection;
+import com.app.docflow.application.document.importing.model.DocumentImportResult;
+import com.app.docflow.application.document.importing.model.DocumentImportStatus;
+import com.app.docflow.application.support.RequiresNewTransactionRunner;
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.Document;
+import com.app.docflow.domain.document.DocumentBulkLoader;
+import com.app.docflow.domain.document.DocumentNumberGenerator;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusNotifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentImportService {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_AUTHOR_LENGTH = 255;
+    private static final int MAX_CONTENT_LENGTH = 10000;
+
+    private final DocumentBulkLoader documentBulkLoader;
+    private final DocumentNumberGenerator documentNumberGenerator;
+    private final RequiresNewTransactionRunner requiresNewTransactionRunner;
+    private final DocumentStatusNotifier documentStatusNotifier;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final DocflowProperties properties;
+
+    @LogExecutionTime("document.import")
+    public DocumentImportResult importDocuments(InputStream input, DocumentImportFormat format, long afterRecord) {
+        if (afterRecord < 0) {
+            throw new IllegalArgumentException("afterRecord must not be negative");
+        }
+
+        DocflowProperties.BulkImport settings = properties.getBulkImport();
+        int chunkSize = Math.max(1, settings.getChunkSize());
+        List<DocumentImportRecord> chunk = new ArrayList<>(chunkSize);
+        List<DocumentImportRejection> rejections = new ArrayList<>();
+        long imported = 0;
+        long rejected = 0;
+        long lastRecordNumber = afterRecord;
+        long committedThrough = afterRecord;
+        DocumentImportReader reader;
+
+        try {
+            reader = openReader(input, format);
+        } catch (IOException e) {
+            return aborted(format, imported, rejected, committedThrough, e, rejections);
+        }
+
+        try {
+            DocumentImportRecord record;
+
+            while ((record = reader.next()) != null) {
+                if (record.recordNumber() <= afterRecord) {
+                    continue;
+                }
+
+                lastRecordNumber = record.recordNumber();
+                String error = record.isMalformed() ? record.error() : validate(record);
+
+                if (error != null) {
+                    rejected++;
+
+                    if (rejections.size() < settings.getMaxReportedRejections()) {
+                        rejections.add(new DocumentImportRejection(record.recordNumber(), error));
+                    }
+                    continue;
+                }
+
+                chunk.add(record);
+
+                if (chunk.size() == chunkSize) {
+                    imported += loadChunk(chunk);
+                    committedThrough = record.recordNumber();
+                    chunk.clear();
+                    log.info("Import progress: imported={}, rejected={}, lastCommittedRecord={}", imported, rejected, committedThrough);
+                }
+            }
+
+            imported += loadChunk(chunk);
+            committedThrough = lastRecordNumber;
+        } catch (IOException | RuntimeException e) {
+            return aborted(format, imported, rejected, committedThrough, e, rejections);
+        } finally {
+            if (imported > 0) {
+                documentStatusNotifier.statusChanged(DocumentStatus.DRAFT);
+            }
+        }
+
+        log.info("Import finished: format={}, imported={}, rejected={}", format, imported, rejected);
+
+        return new DocumentImportResult(DocumentImportStatus.COMPLETED, imported, rejected, committedThrough, null, rejections);
+    }
+
+    private DocumentImportResult aborted(
+            DocumentImportFormat format,
+            long imported,
+            long rejected,
+            long committedThrough,
+            Exception e,
+            List<DocumentImportRejection> rejections
+    ) {
+        log.error("Import aborted: format={}, imported={}, rejected={}, lastCommittedRecord={}",
+                format, imported, rejected, committedThrough, e);
+
+        return new DocumentImportResult(DocumentImportStatus.ABORTED, imported, rejected, committedThrough, describe(e), rejections);
+    }
+
+    private String describe(Exception e) {
+        return e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+    }
+
+    private DocumentImportReader openReader(InputStream input, DocumentImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(decompress(input), StandardCharsets.UTF_8));
+
+        return switch (format) {
+            case NDJSON -> new NdjsonDocumentImportReader(reader, objectMapper);
+            case CSV -> CsvDocumentImportReader.open(reader);
+        };
+    }
+
+    private InputStream decompress(InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input);
+
+        try {
+            String compression = CompressorStreamFactory.detect(buffered);
+            return new BufferedInputStream(new CompressorStreamFactory().createCompressorInputStream(compression, buffered, true));
+        } catch (CompressorException e) {
+            return buffered;
+        }
+    }
+
+    private String validate(DocumentImportRecord record) {
+        if (record.title() == null || record.title().isBlank()) {
+            return "title must not be blank";
+        }
+
+        if (record.author() == null || record.author().isBlank()) {
+            return "author must not be blank";
+        }
+
+        if (record.title().trim().length() > MAX_TITLE_LENGTH) {
+            return "title must be at most " + MAX_TITLE_LENGTH + " characters";
+        }
+
+        if (record.author().trim().length() > MAX_AUTHOR_LENGTH) {
+            return "author must be at most " + MAX_AUTHOR_LENGTH + " characters";
+        }
+
+        if (record.content() != null && record.content().length() > MAX_CONTENT_LENGTH) {
+            return "content must be at most " + MAX_CONTENT_LENGTH + " characters";
+        }
+
+        return null;
+    }
+
+    private int loadChunk(List<DocumentImportRecord> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        Instant now = Instant.now(clock);
+        List<String> numbers = documentNumberGenerator.nextDocumentNumbers(chunk.size());
+        List<Document> documents = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            DocumentImportRecord record = chunk.get(i);
+            documents.add(Document.createDraft(UUID.randomUUID(), numbers.get(i), record.title(), record.author(), record.content(), now));
+        }
+
+        requiresNewTransactionRunner.run(status -> {
+            documentBulkLoader.loadDrafts(documents);
+            return null;
+        });
+
+        return documents.size();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.app.docflow.application.document.importing;
+
+import com.app.docflow.application.document.importing.model.DocumentImportRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+class NdjsonDocumentImportReader implements DocumentImportReader {
+
+    private static final String TITLE_FIELD = "title";
+    private static final String AUTHOR_FIELD = "author";
+    private static final String CONTENT_FIELD = "content";
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    NdjsonDocumentImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public DocumentImportRecord next() throws IOException {
+        String line;
+
+        do {
+            line = reader.readLine();
+
+            if (line == null) {
+                return null;
+            }
+
+            lineNumber++;
+        } while (line.isBlank());
+
+        JsonNode node;
+
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return DocumentImportRecord.malformed(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+        }
+
+        if (!node.isObject()) {
+            return DocumentImportRecord.malformed(lineNumber, "Expected JSON object");
+        }
+
+        return DocumentImportRecord.valid(lineNumber, text(node, TITLE_FIELD), text(node, AUTHOR_FIELD), text(node, CONTENT_FIELD));
+    }
+
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+}
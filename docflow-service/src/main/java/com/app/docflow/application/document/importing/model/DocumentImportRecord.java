@@ -0,0 +1,17 @@
+package com.app.docflow.application.document.importing.model;
+
+public record DocumentImportRecord(long recordNumber, String title, String author, String content, String error) {
+
+    public static DocumentImportRecord valid(long recordNumber, String title, String author, String content) {
+        return new DocumentImportRecord(recordNumber, title, author, content, null);
+    }
+
+    public static DocumentImportRecord malformed(long recordNumber, String error) {
+        return new DocumentImportRecord(recordNumber, null, null, null, error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+
+}
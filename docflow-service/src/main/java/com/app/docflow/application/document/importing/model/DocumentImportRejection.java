@@ -0,0 +1,4 @@
+package com.app.docflow.application.document.importing.model;
+
+public record DocumentImportRejection(long recordNumber, String reason) {
+}
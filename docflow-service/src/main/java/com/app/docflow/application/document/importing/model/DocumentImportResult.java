@@ -0,0 +1,13 @@
+package com.app.docflow.application.document.importing.model;
+
+import java.util.List;
+
+public record DocumentImportResult(
+        DocumentImportStatus status,
+        long imported,
+        long rejected,
+        long lastCommittedRecordNumber,
+        String error,
+        List<DocumentImportRejection> rejections
+) {
+}
@@ -0,0 +1,6 @@
+package com.app.docflow.application.document.importing.model;
+
+public enum DocumentImportStatus {
+    COMPLETED,
+    ABORTED
+}
@@ -0,0 +1,114 @@
+package com.app.docflow.application.document.query;
+
+import com.app.docflow.application.document.query.model.DocumentDetailsView;
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class DocumentDetailsCache {
+
+    static final String CACHE_NAME = "documentDetails";
+    private static final Duration NEVER_EXPIRES = Duration.ofNanos(Long.MAX_VALUE);
+
+    private final boolean enabled;
+    private final Cache<UUID, DocumentDetailsView> cache;
+    private final Cache<UUID, Long> invalidatedVersions;
+
+    @Autowired
+    public DocumentDetailsCache(DocflowProperties properties, MeterRegistry meterRegistry) {
+        this(properties.getDetailsCache(), Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    DocumentDetailsCache(DocflowProperties.DetailsCache settings, Ticker ticker) {
+        Duration ttl = Duration.ofMillis(settings.getTtlMs());
+
+        this.enabled = settings.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfter(Expiry.<UUID, DocumentDetailsView>writing((id, view) ->
+                        view.document().getStatus() == DocumentStatus.APPROVED ? NEVER_EXPIRES : ttl))
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        this.invalidatedVersions = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public DocumentDetailsView get(UUID id, Function<UUID, DocumentDetailsView> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+
+        DocumentDetailsView cached = cache.getIfPresent(id);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        DocumentDetailsView loaded = loader.apply(id);
+        cache.asMap().compute(id, (key, current) -> current != null || isOlderThanInvalidated(key, loaded) ? current : loaded);
+        return loaded;
+    }
+
+    public Optional<DocumentDetailsView> peek(UUID id) {
+        return enabled ? Optional.ofNullable(cache.getIfPresent(id)) : Optional.empty();
+    }
+
+    public void invalidate(UUID id) {
+        invalidate(id, Long.MAX_VALUE);
+    }
+
+    public void invalidate(UUID id, long committedVersion) {
+        if (!enabled) {
+            return;
+        }
+
+        invalidatedVersions.asMap().merge(id, committedVersion, Math::max);
+        evictOlderThan(id, committedVersion);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictOlderThan(id, committedVersion);
+                }
+            });
+        }
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private boolean isOlderThanInvalidated(UUID id, DocumentDetailsView view) {
+        Long invalidatedVersion = invalidatedVersions.getIfPresent(id);
+        return invalidatedVersion != null && view.document().getVersion() < invalidatedVersion;
+    }
+
+    private void evictOlderThan(UUID id, long committedVersion) {
+        cache.asMap().computeIfPresent(id, (key, view) -> view.document().getVersion() < committedVersion ? null : view);
+    }
+
+}
@@ -1,20 +1,25 @@
 package com.app.docflow.application.document.query;
 
+import com.app.docflow.aop.ReadFromPrimary;
 import com.app.docflow.application.document.query.model.DocumentDetailsView;
-import com.app.docflow.domain.document.ApprovalRegistryRepository;
 import com.app.docflow.domain.document.Document;
-import com.app.docflow.domain.document.DocumentHistoryRepository;
+import com.app.docflow.domain.document.DocumentDetails;
 import com.app.docflow.domain.document.DocumentNotFoundException;
 import com.app.docflow.domain.document.DocumentPage;
 import com.app.docflow.domain.document.DocumentRepository;
 import com.app.docflow.domain.document.DocumentSearchCriteria;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentSummary;
 import com.app.docflow.domain.document.PageQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -22,16 +27,41 @@ import java.util.UUID;
 public class DocumentQueryService {
 
     private final DocumentRepository documentRepository;
-    private final DocumentHistoryRepository documentHistoryRepository;
-    private final ApprovalRegistryRepository approvalRegistryRepository;
+    private final DocumentDetailsCache documentDetailsCache;
+    private final DocumentStatusWaiters documentStatusWaiters;
 
     public DocumentDetailsView getDocument(UUID id) {
-        Document document = documentRepository.findById(id).orElseThrow(() -> new DocumentNotFoundException(id));
-        return new DocumentDetailsView(
-                document,
-                documentHistoryRepository.findByDocumentId(id),
-                approvalRegistryRepository.findByDocumentId(id).orElse(null)
-        );
+        return documentDetailsCache.get(id, this::loadDocument);
+    }
+
+    public long getDocumentVersion(UUID id) {
+        return documentDetailsCache.peek(id)
+                .map(view -> view.document().getVersion())
+                .or(() -> documentRepository.findVersionById(id))
+                .orElseThrow(() -> new DocumentNotFoundException(id));
+    }
+
+    @ReadFromPrimary
+    public CompletableFuture<DocumentStatus> awaitStatus(UUID id, DocumentStatus status, Duration timeout) {
+        CompletableFuture<DocumentStatus> reached = documentStatusWaiters.register(id, status, timeout);
+
+        try {
+            DocumentStatus current = getDocumentStatus(id);
+
+            if (current.hasReached(status)) {
+                reached.complete(current);
+            }
+        } catch (RuntimeException e) {
+            reached.cancel(false);
+            throw e;
+        }
+
+        return reached;
+    }
+
+    @ReadFromPrimary
+    public DocumentStatus getDocumentStatus(UUID id) {
+        return documentRepository.findStatusById(id).orElseThrow(() -> new DocumentNotFoundException(id));
     }
 
     public DocumentPage<Document> getByIds(List<UUID> ids, PageQuery pageQuery) {
@@ -42,8 +72,29 @@ public class DocumentQueryService {
         return documentRepository.findByIds(ids, pageQuery);
     }
 
+    public DocumentPage<DocumentSummary> getSummariesByIds(List<UUID> ids, PageQuery pageQuery) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+
+        return documentRepository.findSummariesByIds(ids, pageQuery);
+    }
+
+    public Map<DocumentStatus, Long> getStatusCounts() {
+        return documentRepository.countAllByStatus();
+    }
+
     public DocumentPage<Document> search(DocumentSearchCriteria criteria, PageQuery pageQuery) {
         return documentRepository.search(criteria, pageQuery);
     }
 
+    public DocumentPage<DocumentSummary> searchSummaries(DocumentSearchCriteria criteria, PageQuery pageQuery) {
+        return documentRepository.searchSummaries(criteria, pageQuery);
+    }
+
+    private DocumentDetailsView loadDocument(UUID id) {
+        DocumentDetails details = documentRepository.findDetailsById(id).orElseThrow(() -> new DocumentNotFoundException(id));
+        return new DocumentDetailsView(details.document(), details.history(), details.approvalRegistryRecord());
+    }
+
 }
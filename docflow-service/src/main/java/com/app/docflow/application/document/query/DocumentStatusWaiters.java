@@ -0,0 +1,113 @@
+package com.app.docflow.application.document.query;
+
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class DocumentStatusWaiters {
+
+    private final int maxWaiters;
+    private final Duration maxTimeout;
+    private final AtomicInteger size = new AtomicInteger();
+    private final Map<UUID, List<Waiter>> waitersById = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DocumentStatusWaiters(DocflowProperties properties, MeterRegistry meterRegistry) {
+        this(properties.getStatusAwait());
+        Gauge.builder("docflow.status_await.waiters", size, AtomicInteger::get).register(meterRegistry);
+    }
+
+    DocumentStatusWaiters(DocflowProperties.StatusAwait settings) {
+        this.maxWaiters = settings.getMaxWaiters();
+        this.maxTimeout = Duration.ofMillis(settings.getMaxTimeoutMs());
+    }
+
+    public CompletableFuture<DocumentStatus> register(UUID id, DocumentStatus status, Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero() || timeout.compareTo(maxTimeout) > 0) {
+            throw new IllegalArgumentException("timeout must be between 1ms and " + maxTimeout.toMillis() + "ms");
+        }
+
+        if (size.incrementAndGet() > maxWaiters) {
+            size.decrementAndGet();
+            throw new StatusAwaitLimitExceededException(maxWaiters);
+        }
+
+        Waiter waiter = new Waiter(status, new CompletableFuture<>());
+
+        waitersById.compute(id, (key, waiters) -> {
+            List<Waiter> updated = waiters == null ? new ArrayList<>(1) : waiters;
+            updated.add(waiter);
+            return updated;
+        });
+        waiter.future().whenComplete((reached, error) -> remove(id, waiter));
+
+        return waiter.future();
+    }
+
+    public void statusChanged(UUID id, DocumentStatus status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUp(id, status);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp(id, status);
+            }
+        });
+    }
+
+    @EventListener
+    public void onDocumentStatusChanged(DocumentStatusChangedEvent event) {
+        event.documentIds().forEach(id -> wakeUp(id, event.status()));
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private void wakeUp(UUID id, DocumentStatus status) {
+        if (!waitersById.containsKey(id)) {
+            return;
+        }
+
+        List<Waiter> reached = new ArrayList<>();
+
+        waitersById.computeIfPresent(id, (key, waiters) -> {
+            waiters.stream().filter(waiter -> status.hasReached(waiter.status())).forEach(reached::add);
+            return waiters;
+        });
+
+        reached.forEach(waiter -> waiter.future().complete(status));
+    }
+
+    private void remove(UUID id, Waiter waiter) {
+        waitersById.computeIfPresent(id, (key, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+        size.decrementAndGet();
+    }
+
+    private record Waiter(DocumentStatus status, CompletableFuture<DocumentStatus> future) {
+    }
+
+}
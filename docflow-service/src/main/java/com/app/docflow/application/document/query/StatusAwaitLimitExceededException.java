@@ -0,0 +1,7 @@
+package com.app.docflow.application.document.query;
+
+public class StatusAwaitLimitExceededException extends RuntimeException {
+    public StatusAwaitLimitExceededException(int maxWaiters) {
+        super("Too many pending status waiters: limit is " + maxWaiters);
+    }
+}
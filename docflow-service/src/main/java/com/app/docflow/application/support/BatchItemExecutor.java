@@ -0,0 +1,76 @@
+package com.app.docflow.application.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+public class BatchItemExecutor implements AutoCloseable {
+
+    private final Executor executor;
+    private final int parallelism;
+
+    public BatchItemExecutor(Executor executor, int parallelism) {
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public static BatchItemExecutor sequential() {
+        return new BatchItemExecutor(Runnable::run, 1);
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    public <T> List<T> invokeAll(List<Supplier<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+
+        if (parallelism == 1 || tasks.size() < 2) {
+            for (Supplier<T> task : tasks) {
+                results.add(task.get());
+            }
+
+            return results;
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+
+        for (Supplier<T> task : tasks) {
+            futures.add(CompletableFuture.supplyAsync(task, executor));
+        }
+
+        for (CompletableFuture<T> future : futures) {
+            results.add(join(future));
+        }
+
+        return results;
+    }
+
+    @Override
+    public void close() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw e;
+        }
+    }
+
+}
@@ -1,6 +1,5 @@
 package com.app.docflow.application.support;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -10,15 +9,17 @@ import org.springframework.transaction.support.TransactionTemplate;
 import java.util.function.Function;
 
 @Component
-@RequiredArgsConstructor
 public class RequiresNewTransactionRunner {
 
-    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public RequiresNewTransactionRunner(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     public <T> T run(Function<TransactionStatus, T> callback) {
-        TransactionTemplate template = new TransactionTemplate(transactionManager);
-        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-        return template.execute(callback::apply);
+        return transactionTemplate.execute(callback::apply);
     }
 
 }
@@ -1,20 +1,30 @@
 package com.app.docflow.config;
 
+import com.app.docflow.application.support.BatchItemExecutor;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.time.Clock;
+import java.util.concurrent.Executors;
 
 @Configuration
 @EnableScheduling
 @EnableConfigurationProperties(DocflowProperties.class)
 @RequiredArgsConstructor
+@Slf4j
 public class AppBeansConfig {
 
+    private static final int CONNECTIONS_RESERVED_FOR_CALLERS = 1;
+
     private final DocflowProperties docflowProperties;
 
     @Bean
@@ -31,4 +41,35 @@ public class AppBeansConfig {
         scheduler.setAwaitTerminationSeconds(docflowProperties.getScheduler().getAwaitTerminationSeconds());
         return scheduler;
     }
+
+    @Bean
+    public BatchItemExecutor batchItemExecutor(DataSource dataSource) {
+        int parallelism = resolveBatchParallelism(dataSource);
+
+        if (parallelism == 1) {
+            return BatchItemExecutor.sequential();
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(docflowProperties.getProcessing().getThreadNamePrefix());
+        threadFactory.setDaemon(true);
+
+        log.info("Batch item processing runs in parallel: parallelism={}", parallelism);
+
+        return new BatchItemExecutor(Executors.newFixedThreadPool(parallelism, threadFactory), parallelism);
+    }
+
+    private int resolveBatchParallelism(DataSource dataSource) {
+        int configured = Math.max(1, docflowProperties.getProcessing().getParallelism());
+
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return Math.max(1, Math.min(configured, poolSize - CONNECTIONS_RESERVED_FOR_CALLERS));
+            }
+        } catch (SQLException e) {
+            log.warn("Could not resolve connection pool size, using configured batch parallelism={}", configured, e);
+        }
+
+        return configured;
+    }
 }
@@ -12,14 +12,27 @@ public class DocflowProperties {
     private int batchSize = 100;
     private Workers workers = new Workers();
     private Scheduler scheduler = new Scheduler();
+    private Processing processing = new Processing();
+    private AdaptiveBatch adaptiveBatch = new AdaptiveBatch();
+    private Retry retry = new Retry();
+    private BulkImport bulkImport = new BulkImport();
+    private ReadReplica readReplica = new ReadReplica();
+    private DetailsCache detailsCache = new DetailsCache();
+    private StatusAwait statusAwait = new StatusAwait();
 
     @Getter
     @Setter
     public static class Workers {
 
         private boolean enabled = true;
-        private long submitDelayMs = 3000;
-        private long approveDelayMs = 3000;
+        private long submitDelayMs = 30000;
+        private long approveDelayMs = 30000;
+        private long claimLeaseMs = 60000;
+        private boolean bulkSubmit = true;
+        private boolean singleStatementApprove = true;
+        private boolean notifications = true;
+        private long notificationPollMs = 500;
+        private long notificationReconnectDelayMs = 5000;
 
     }
 
@@ -33,4 +46,81 @@ public class DocflowProperties {
 
     }
 
+    @Getter
+    @Setter
+    public static class Processing {
+
+        private int parallelism = 1;
+        private int chunkSize = 1;
+        private String threadNamePrefix = "docflow-batch-";
+
+    }
+
+    @Getter
+    @Setter
+    public static class AdaptiveBatch {
+
+        private boolean enabled = true;
+        private int minBatchSize = 10;
+        private int maxBatchSize = 1000;
+        private int increaseStep = 10;
+        private double decreaseFactor = 0.5;
+        private long targetLatencyMs = 2000;
+        private double maxErrorRate = 0.05;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        private int maxAttempts = 5;
+        private long initialBackoffMs = 5000;
+        private long maxBackoffMs = 3600000;
+
+    }
+
+    @Getter
+    @Setter
+    public static class BulkImport {
+
+        private int chunkSize = 1000;
+        private int maxReportedRejections = 100;
+
+    }
+
+    @Getter
+    @Setter
+    public static class ReadReplica {
+
+        private boolean enabled = false;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private long connectionTimeoutMs = 1000;
+        private long maxLagMs = 5000;
+        private long healthCheckIntervalMs = 5000;
+
+    }
+
+    @Getter
+    @Setter
+    public static class DetailsCache {
+
+        private boolean enabled = true;
+        private long maximumSize = 10000;
+        private long ttlMs = 30000;
+
+    }
+
+    @Getter
+    @Setter
+    public static class StatusAwait {
+
+        private int maxWaiters = 10000;
+        private long maxTimeoutMs = 60000;
+
+    }
+
 }
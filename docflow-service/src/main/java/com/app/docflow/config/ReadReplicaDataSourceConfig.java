@@ -0,0 +1,69 @@
+package com.app.docflow.config;
+
+import com.app.docflow.infrastructure.datasource.ReadReplicaMonitor;
+import com.app.docflow.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "docflow.read-replica", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadReplicaDataSourceConfig {
+
+    private static final String PRIMARY_POOL_NAME = "docflow-primary";
+    private static final String REPLICA_POOL_NAME = "docflow-replica";
+
+    private final DocflowProperties docflowProperties;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(PRIMARY_POOL_NAME);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource() {
+        DocflowProperties.ReadReplica settings = docflowProperties.getReadReplica();
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(REPLICA_POOL_NAME);
+        dataSource.setJdbcUrl(settings.getUrl());
+        dataSource.setUsername(settings.getUsername());
+        dataSource.setPassword(settings.getPassword());
+        dataSource.setMaximumPoolSize(settings.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(settings.getConnectionTimeoutMs());
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadReplicaMonitor readReplicaMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource, MeterRegistry meterRegistry) {
+        return ReadReplicaMonitor.register(replicaDataSource, docflowProperties.getReadReplica().getMaxLagMs(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadReplicaMonitor readReplicaMonitor
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(new ReadReplicaRoutingDataSource(replicaDataSource, primaryDataSource, readReplicaMonitor));
+        return dataSource;
+    }
+
+}
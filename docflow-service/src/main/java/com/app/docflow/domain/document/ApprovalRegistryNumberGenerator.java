@@ -1,7 +1,11 @@
 package com.app.docflow.domain.document;
 
+import java.util.List;
+
 public interface ApprovalRegistryNumberGenerator {
 
     String nextRegistryNumber();
 
+    List<String> nextRegistryNumbers(int count);
+
 }
@@ -0,0 +1,12 @@
+package com.app.docflow.domain.document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ClaimedDocument(UUID id, Instant createdAt, boolean hasFailureRecord) {
+
+    public ClaimedDocument(UUID id, Instant createdAt) {
+        this(id, createdAt, false);
+    }
+
+}
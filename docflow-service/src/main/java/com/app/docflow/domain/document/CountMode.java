@@ -0,0 +1,7 @@
+package com.app.docflow.domain.document;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATE,
+    NONE
+}
@@ -0,0 +1,9 @@
+package com.app.docflow.domain.document;
+
+import java.util.List;
+
+public interface DocumentBulkLoader {
+
+    void loadDrafts(List<Document> documents);
+
+}
@@ -0,0 +1,15 @@
+package com.app.docflow.domain.document;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public record DocumentCursor(String sortBy, SortDirection sortDirection, String value, UUID id) {
+
+    public DocumentCursor {
+        Objects.requireNonNull(sortBy, "sortBy is required");
+        Objects.requireNonNull(sortDirection, "sortDirection is required");
+        Objects.requireNonNull(value, "value is required");
+        Objects.requireNonNull(id, "id is required");
+    }
+
+}
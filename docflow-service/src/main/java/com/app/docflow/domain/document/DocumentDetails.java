@@ -0,0 +1,10 @@
+package com.app.docflow.domain.document;
+
+import java.util.List;
+
+public record DocumentDetails(
+        Document document,
+        List<DocumentHistoryEntry> history,
+        ApprovalRegistryRecord approvalRegistryRecord
+) {
+}
@@ -0,0 +1,6 @@
+package com.app.docflow.domain.document;
+
+import java.util.UUID;
+
+public record DocumentFailure(UUID documentId, String result, String error) {
+}
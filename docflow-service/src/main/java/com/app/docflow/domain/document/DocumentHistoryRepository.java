@@ -6,5 +6,7 @@ import java.util.UUID;
 public interface DocumentHistoryRepository {
     void save(DocumentHistoryEntry entry);
 
+    void saveAll(List<DocumentHistoryEntry> entries);
+
     List<DocumentHistoryEntry> findByDocumentId(UUID documentId);
 }
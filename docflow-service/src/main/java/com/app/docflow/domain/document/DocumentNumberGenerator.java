@@ -1,7 +1,11 @@
 package com.app.docflow.domain.document;
 
+import java.util.List;
+
 public interface DocumentNumberGenerator {
 
     String nextDocumentNumber();
 
+    List<String> nextDocumentNumbers(int count);
+
 }
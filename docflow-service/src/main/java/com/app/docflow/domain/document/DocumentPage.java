@@ -2,5 +2,19 @@ package com.app.docflow.domain.document;
 
 import java.util.List;
 
-public record DocumentPage<T>(List<T> items, long totalElements, int page, int size, int totalPages) {
+public record DocumentPage<T>(
+        List<T> items,
+        Long totalElements,
+        Integer page,
+        int size,
+        Integer totalPages,
+        boolean hasNext,
+        DocumentCursor nextCursor,
+        CountMode countMode
+) {
+
+    public DocumentPage(List<T> items, long totalElements, int page, int size, int totalPages) {
+        this(items, totalElements, page, size, totalPages, page + 1 < totalPages, null, CountMode.EXACT);
+    }
+
 }
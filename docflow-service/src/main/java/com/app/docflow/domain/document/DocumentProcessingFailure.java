@@ -0,0 +1,16 @@
+package com.app.docflow.domain.document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DocumentProcessingFailure(
+        UUID documentId,
+        DocumentStatus status,
+        int attempts,
+        String lastResult,
+        String lastError,
+        Instant nextAttemptAt,
+        Instant deadLetteredAt,
+        Instant updatedAt
+) {
+}
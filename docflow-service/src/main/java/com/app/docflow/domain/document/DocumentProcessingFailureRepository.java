@@ -0,0 +1,16 @@
+package com.app.docflow.domain.document;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DocumentProcessingFailureRepository {
+
+    void recordFailures(DocumentStatus status, List<DocumentFailure> failures, DocumentRetryPolicy retryPolicy);
+
+    void clear(List<UUID> documentIds);
+
+    List<DocumentProcessingFailure> findDeadLettered(int limit);
+
+    boolean requeue(UUID documentId);
+
+}
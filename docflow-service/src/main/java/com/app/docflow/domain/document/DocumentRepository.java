@@ -1,6 +1,9 @@
 package com.app.docflow.domain.document;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -8,16 +11,36 @@ public interface DocumentRepository {
 
     Document save(Document document);
 
+    void insertAll(List<Document> documents);
+
+    Document updateStatus(Document document);
+
     Optional<Document> findById(UUID id);
 
+    Optional<DocumentDetails> findDetailsById(UUID id);
+
+    Optional<Long> findVersionById(UUID id);
+
+    Optional<DocumentStatus> findStatusById(UUID id);
+
     List<Document> findAllByIds(List<UUID> ids);
 
     DocumentPage<Document> findByIds(List<UUID> ids, PageQuery pageQuery);
 
     DocumentPage<Document> search(DocumentSearchCriteria criteria, PageQuery pageQuery);
 
-    List<UUID> findIdsByStatus(DocumentStatus status, int limit);
+    DocumentPage<DocumentSummary> findSummariesByIds(List<UUID> ids, PageQuery pageQuery);
+
+    DocumentPage<DocumentSummary> searchSummaries(DocumentSearchCriteria criteria, PageQuery pageQuery);
+
+    List<UUID> submitDrafts(List<UUID> ids, Instant submittedAt);
+
+    long approveAndRegister(Document approved, String registryNumber);
+
+    List<ClaimedDocument> claimByStatus(DocumentStatus status, ClaimedDocument after, int limit, Duration lease);
 
     long countByStatus(DocumentStatus status);
 
+    Map<DocumentStatus, Long> countAllByStatus();
+
 }
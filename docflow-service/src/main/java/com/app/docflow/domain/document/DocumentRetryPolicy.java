@@ -0,0 +1,6 @@
+package com.app.docflow.domain.document;
+
+import java.time.Duration;
+
+public record DocumentRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+}
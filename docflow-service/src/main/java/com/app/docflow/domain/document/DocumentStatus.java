@@ -3,5 +3,9 @@ package com.app.docflow.domain.document;
 public enum DocumentStatus {
     DRAFT,
     SUBMITTED,
-    APPROVED
+    APPROVED;
+
+    public boolean hasReached(DocumentStatus target) {
+        return compareTo(target) >= 0;
+    }
 }
@@ -0,0 +1,12 @@
+package com.app.docflow.domain.document;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DocumentStatusChangedEvent(DocumentStatus status, List<UUID> documentIds) {
+
+    public DocumentStatusChangedEvent(DocumentStatus status) {
+        this(status, List.of());
+    }
+
+}
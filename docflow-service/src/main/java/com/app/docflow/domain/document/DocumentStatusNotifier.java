@@ -0,0 +1,12 @@
+package com.app.docflow.domain.document;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DocumentStatusNotifier {
+
+    void statusChanged(DocumentStatus status);
+
+    void statusChanged(DocumentStatus status, List<UUID> documentIds);
+
+}
@@ -0,0 +1,16 @@
+package com.app.docflow.domain.document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DocumentSummary(
+        UUID id,
+        long version,
+        String number,
+        String title,
+        String author,
+        DocumentStatus status,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -1,6 +1,17 @@
 package com.app.docflow.domain.document;
 
-public record PageQuery(int page, int size, String sortBy, SortDirection sortDirection) {
+import java.util.List;
+
+public record PageQuery(
+        int page,
+        int size,
+        String sortBy,
+        SortDirection sortDirection,
+        DocumentCursor cursor,
+        CountMode countMode
+) {
+
+    public static final List<String> SORT_FIELDS = List.of("createdAt", "updatedAt", "number", "title", "author", "status");
 
     public PageQuery {
         if (page < 0) {
@@ -10,6 +21,30 @@ public record PageQuery(int page, int size, String sortBy, SortDirection sortDir
         if (size < 1 || size > 1000) {
             throw new IllegalArgumentException("size must be between 1 and 1000");
         }
+
+        if (!SORT_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("sortBy must be one of " + SORT_FIELDS);
+        }
+
+        if (cursor != null && (!cursor.sortBy().equals(sortBy) || cursor.sortDirection() != sortDirection)) {
+            throw new IllegalArgumentException("cursor does not match sort parameters");
+        }
+
+        if (countMode == null) {
+            countMode = cursor == null ? CountMode.EXACT : CountMode.NONE;
+        }
+    }
+
+    public PageQuery(int page, int size, String sortBy, SortDirection sortDirection) {
+        this(page, size, sortBy, sortDirection, null, null);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    public long offset() {
+        return (long) page * size;
     }
 
 }
@@ -0,0 +1,28 @@
+package com.app.docflow.infrastructure.datasource;
+
+public final class PrimaryReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private PrimaryReadRouting() {
+    }
+
+    public static boolean requirePrimary() {
+        boolean previous = isPrimaryRequired();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void restore(boolean previous) {
+        if (previous) {
+            PRIMARY_REQUIRED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+}
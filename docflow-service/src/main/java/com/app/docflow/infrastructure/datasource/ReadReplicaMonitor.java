@@ -0,0 +1,92 @@
+package com.app.docflow.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+@Slf4j
+public class ReadReplicaMonitor {
+
+    static final String AVAILABLE_METRIC = "docflow.read_replica.available";
+    static final String LAG_METRIC = "docflow.read_replica.lag.ms";
+    private static final String REPLICATION_LAG_SQL = """
+            select case
+                       when not pg_is_in_recovery() then 0
+                       when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                       else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   end::bigint
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+
+    private volatile boolean available;
+    private volatile long lagMs = -1;
+
+    public ReadReplicaMonitor(JdbcTemplate replicaJdbcTemplate, long maxLagMs) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLagMs = maxLagMs;
+    }
+
+    public static ReadReplicaMonitor register(DataSource replicaDataSource, long maxLagMs, MeterRegistry meterRegistry) {
+        ReadReplicaMonitor monitor = new ReadReplicaMonitor(new JdbcTemplate(replicaDataSource), maxLagMs);
+
+        Gauge.builder(AVAILABLE_METRIC, monitor, m -> m.isAvailable() ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+        Gauge.builder(LAG_METRIC, monitor, ReadReplicaMonitor::getLagMs)
+                .description("Last observed replication lag of the read replica, -1 when unknown")
+                .register(meterRegistry);
+
+        return monitor;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${docflow.readReplica.healthCheckIntervalMs:5000}")
+    public void check() {
+        Long observedLag;
+
+        try {
+            observedLag = replicaJdbcTemplate.queryForObject(REPLICATION_LAG_SQL, Long.class);
+        } catch (DataAccessException e) {
+            markUnavailable(e);
+            return;
+        }
+
+        lagMs = observedLag == null ? -1 : observedLag;
+        boolean healthy = observedLag != null && observedLag <= maxLagMs;
+
+        if (healthy != available) {
+            if (healthy) {
+                log.info("Read replica is available, routing read-only transactions to it: lagMs={}", lagMs);
+            } else {
+                log.warn("Read replica lags behind, routing read-only transactions to primary: lagMs={}, maxLagMs={}", lagMs, maxLagMs);
+            }
+        }
+
+        available = healthy;
+    }
+
+    public void markUnavailable(Exception cause) {
+        lagMs = -1;
+
+        if (available) {
+            log.warn("Read replica is unreachable, routing read-only transactions to primary", cause);
+        }
+
+        available = false;
+    }
+
+}
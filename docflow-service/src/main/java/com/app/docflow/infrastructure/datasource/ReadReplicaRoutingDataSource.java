@@ -0,0 +1,45 @@
+package com.app.docflow.infrastructure.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+@RequiredArgsConstructor
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource replicaDataSource;
+    private final DataSource primaryDataSource;
+    private final ReadReplicaMonitor monitor;
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PrimaryReadRouting.isPrimaryRequired() || !monitor.isAvailable()) {
+            return primaryDataSource.getConnection();
+        }
+
+        try {
+            return replicaDataSource.getConnection();
+        } catch (SQLException e) {
+            monitor.markUnavailable(e);
+            return primaryDataSource.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (PrimaryReadRouting.isPrimaryRequired() || !monitor.isAvailable()) {
+            return primaryDataSource.getConnection(username, password);
+        }
+
+        try {
+            return replicaDataSource.getConnection(username, password);
+        } catch (SQLException e) {
+            monitor.markUnavailable(e);
+            return primaryDataSource.getConnection(username, password);
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.app.docflow.infrastructure.importing;
+
+import com.app.docflow.domain.document.Document;
+import com.app.docflow.domain.document.DocumentBulkLoader;
+import com.app.docflow.domain.document.DocumentHistoryEntry;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class PostgresCopyDocumentBulkLoader implements DocumentBulkLoader {
+
+    private static final String COPY_DOCUMENTS_SQL =
+            "copy documents (id, version, number, title, author, content, status, created_at, updated_at) from stdin with (format csv)";
+    private static final String COPY_HISTORY_SQL =
+            "copy document_history (id, document_id, action, from_status, to_status, message, created_at) from stdin with (format csv)";
+    private static final String INITIAL_VERSION = "0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void loadDrafts(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        List<DocumentHistoryEntry> historyEntries = documents.stream()
+                .map(document -> DocumentHistoryEntry.created(document.getId(), document.getCreatedAt()))
+                .toList();
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            copy(pgConnection, COPY_DOCUMENTS_SQL, documents, document -> csvRow(
+                    document.getId().toString(),
+                    INITIAL_VERSION,
+                    document.getNumber(),
+                    document.getTitle(),
+                    document.getAuthor(),
+                    document.getContent(),
+                    document.getStatus().name(),
+                    document.getCreatedAt().toString(),
+                    document.getUpdatedAt().toString()
+            ));
+            copy(pgConnection, COPY_HISTORY_SQL, historyEntries, entry -> csvRow(
+                    entry.getId().toString(),
+                    entry.getDocumentId().toString(),
+                    entry.getAction().name(),
+                    entry.getFromStatus() == null ? null : entry.getFromStatus().name(),
+                    entry.getToStatus().name(),
+                    entry.getMessage(),
+                    entry.getCreatedAt().toString()
+            ));
+            return null;
+        });
+    }
+
+    private <T> void copy(PGConnection connection, String sql, List<T> rows, Function<T, String> rowWriter) throws SQLException {
+        CopyIn copyIn = connection.getCopyAPI().copyIn(sql);
+
+        try {
+            for (T row : rows) {
+                byte[] bytes = rowWriter.apply(row).getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    static String csvRow(String... values) {
+        StringBuilder row = new StringBuilder();
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+
+            if (values[i] != null) {
+                row.append('"').append(values[i].replace("\"", "\"\"")).append('"');
+            }
+        }
+
+        return row.append('\n').toString();
+    }
+
+}
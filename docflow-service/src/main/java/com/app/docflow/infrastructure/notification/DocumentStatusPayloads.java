@@ -0,0 +1,59 @@
+package com.app.docflow.infrastructure.notification;
+
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusChangedEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+final class DocumentStatusPayloads {
+
+    static final int MAX_IDS_PER_PAYLOAD = 100;
+
+    private static final String STATUS_SEPARATOR = ":";
+    private static final String ID_SEPARATOR = ",";
+
+    private DocumentStatusPayloads() {
+    }
+
+    static List<String> encode(DocumentStatus status, List<UUID> documentIds) {
+        if (documentIds.isEmpty()) {
+            return List.of(status.name());
+        }
+
+        List<String> payloads = new ArrayList<>((documentIds.size() + MAX_IDS_PER_PAYLOAD - 1) / MAX_IDS_PER_PAYLOAD);
+
+        for (int from = 0; from < documentIds.size(); from += MAX_IDS_PER_PAYLOAD) {
+            List<UUID> chunk = documentIds.subList(from, Math.min(from + MAX_IDS_PER_PAYLOAD, documentIds.size()));
+            payloads.add(status.name() + STATUS_SEPARATOR
+                    + chunk.stream().map(UUID::toString).collect(Collectors.joining(ID_SEPARATOR)));
+        }
+
+        return payloads;
+    }
+
+    static Optional<DocumentStatusChangedEvent> decode(String payload) {
+        int separatorIndex = payload.indexOf(STATUS_SEPARATOR);
+        String statusName = separatorIndex < 0 ? payload : payload.substring(0, separatorIndex);
+
+        try {
+            DocumentStatus status = DocumentStatus.valueOf(statusName);
+
+            if (separatorIndex < 0) {
+                return Optional.of(new DocumentStatusChangedEvent(status));
+            }
+
+            List<UUID> documentIds = Arrays.stream(payload.substring(separatorIndex + 1).split(ID_SEPARATOR))
+                    .map(UUID::fromString)
+                    .toList();
+            return Optional.of(new DocumentStatusChangedEvent(status, documentIds));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+}
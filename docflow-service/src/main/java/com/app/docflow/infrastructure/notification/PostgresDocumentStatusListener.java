@@ -0,0 +1,128 @@
+package com.app.docflow.infrastructure.notification;
+
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresDocumentStatusListener implements SmartLifecycle {
+
+    private static final String LISTEN_SQL = "listen " + PostgresDocumentStatusNotifier.CHANNEL;
+    private static final String THREAD_NAME = "docflow-status-listener";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final DocflowProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void start() {
+        DocflowProperties.Workers workers = properties.getWorkers();
+
+        if (!workers.isNotifications()) {
+            return;
+        }
+
+        running = true;
+        listenerThread = new Thread(this::listen, THREAD_NAME);
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword());
+                 Statement statement = connection.createStatement()) {
+                statement.execute(LISTEN_SQL);
+                log.info("Listening for document status notifications on channel {}", PostgresDocumentStatusNotifier.CHANNEL);
+                publish(DocumentStatus.DRAFT);
+                publish(DocumentStatus.SUBMITTED);
+                receive(connection.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Document status listener connection failed, reconnecting", e);
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void receive(PGConnection connection) throws SQLException {
+        int pollTimeoutMs = (int) properties.getWorkers().getNotificationPollMs();
+
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications(pollTimeoutMs);
+
+            if (notifications == null) {
+                continue;
+            }
+
+            for (PGNotification notification : notifications) {
+                publish(notification.getParameter());
+            }
+        }
+    }
+
+    private void publish(String payload) {
+        DocumentStatusPayloads.decode(payload).ifPresentOrElse(
+                this::publish,
+                () -> log.warn("Ignoring unknown document status notification: {}", payload));
+    }
+
+    private void publish(DocumentStatus status) {
+        publish(new DocumentStatusChangedEvent(status));
+    }
+
+    private void publish(DocumentStatusChangedEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch document status notification: status={}", event.status(), e);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(properties.getWorkers().getNotificationReconnectDelayMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+}
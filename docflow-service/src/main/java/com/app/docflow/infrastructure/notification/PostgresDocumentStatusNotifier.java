@@ -0,0 +1,62 @@
+package com.app.docflow.infrastructure.notification;
+
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusNotifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresDocumentStatusNotifier implements DocumentStatusNotifier {
+
+    static final String CHANNEL = "docflow_document_status";
+
+    static final String NOTIFY_SQL = "select pg_notify(?, payload) from unnest(?) as payload";
+    private static final String TEXT_SQL_TYPE = "text";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DocflowProperties properties;
+
+    @Override
+    public void statusChanged(DocumentStatus status) {
+        statusChanged(status, List.of());
+    }
+
+    @Override
+    public void statusChanged(DocumentStatus status, List<UUID> documentIds) {
+        if (!properties.getWorkers().isNotifications()) {
+            return;
+        }
+
+        List<String> payloads = DocumentStatusPayloads.encode(status, documentIds);
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            send(payloads);
+            return;
+        }
+
+        try {
+            send(payloads);
+        } catch (DataAccessException e) {
+            log.warn("Failed to notify document status change: status={}, documents={}", status, documentIds.size(), e);
+        }
+    }
+
+    private void send(List<String> payloads) {
+        jdbcTemplate.query(NOTIFY_SQL, ps -> {
+            ps.setString(1, CHANNEL);
+            ps.setArray(2, ps.getConnection().createArrayOf(TEXT_SQL_TYPE, payloads.toArray()));
+        }, rs -> {
+        });
+    }
+
+}
@@ -5,11 +5,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class PostgresSequenceApprovalRegistryNumberGenerator implements ApprovalRegistryNumberGenerator {
 
     private static final String NEXTVAL_SQL = "select nextval('approval_registry_number_seq')";
+    private static final String NEXTVAL_SERIES_SQL = """
+            select nextval('approval_registry_number_seq')
+            from generate_series(1, ?)
+            """;
     private static final String APPROVAL_REGISTRY_NUMBER_PATTERN = "APR-%08d";
     private static final String ERROR_GENERATE_APPROVAL_REGISTRY_NUMBER = "Failed to generate approval registry number";
 
@@ -26,4 +32,22 @@ public class PostgresSequenceApprovalRegistryNumberGenerator implements Approval
         return APPROVAL_REGISTRY_NUMBER_PATTERN.formatted(nextValue);
     }
 
+    @Override
+    public List<String> nextRegistryNumbers(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        List<Long> nextValues = jdbcTemplate.queryForList(NEXTVAL_SERIES_SQL, Long.class, count);
+
+        if (nextValues.size() != count) {
+            throw new IllegalStateException(ERROR_GENERATE_APPROVAL_REGISTRY_NUMBER);
+        }
+
+        return nextValues.stream()
+                .sorted()
+                .map(APPROVAL_REGISTRY_NUMBER_PATTERN::formatted)
+                .toList();
+    }
+
 }
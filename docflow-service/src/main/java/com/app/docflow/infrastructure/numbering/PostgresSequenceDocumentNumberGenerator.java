@@ -5,25 +5,126 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
 @Component
 @RequiredArgsConstructor
 public class PostgresSequenceDocumentNumberGenerator implements DocumentNumberGenerator {
 
-    private static final String NEXTVAL_SQL = "select nextval('document_number_seq')";
+    private static final String NEXT_BLOCK_SQL = """
+            select nextval('document_number_seq') as block_start, s.increment_by as block_size
+            from pg_sequences s
+            where s.schemaname = current_schema()
+              and s.sequencename = 'document_number_seq'
+            """;
+    private static final String NEXT_BLOCKS_SQL = """
+            select nextval('document_number_seq') as block_start, s.increment_by as block_size
+            from pg_sequences s
+            cross join generate_series(1, ceil(?::numeric / s.increment_by)::int)
+            where s.schemaname = current_schema()
+              and s.sequencename = 'document_number_seq'
+            """;
     private static final String DOCUMENT_NUMBER_PATTERN = "DOC-%08d";
     private static final String ERROR_GENERATE_DOCUMENT_NUMBER = "Failed to generate document number";
 
     private final JdbcTemplate jdbcTemplate;
+    private final AtomicReference<NumberBlock> currentBlock = new AtomicReference<>(NumberBlock.EMPTY);
+    private final Object refillLock = new Object();
 
     @Override
     public String nextDocumentNumber() {
-        Long nextValue = jdbcTemplate.queryForObject(NEXTVAL_SQL, Long.class);
+        while (true) {
+            NumberBlock block = currentBlock.get();
+            long value = block.next();
+
+            if (value > 0) {
+                return DOCUMENT_NUMBER_PATTERN.formatted(value);
+            }
+
+            synchronized (refillLock) {
+                if (currentBlock.get() == block) {
+                    currentBlock.set(fetchBlock());
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<String> nextDocumentNumbers(int count) {
+        List<String> numbers = new ArrayList<>(Math.max(count, 0));
+        NumberBlock block = currentBlock.get();
+
+        takeFrom(block, numbers, count);
+
+        if (numbers.size() == count) {
+            return numbers;
+        }
+
+        List<NumberBlock> blocks = jdbcTemplate.query(NEXT_BLOCKS_SQL,
+                (rs, rowNum) -> new NumberBlock(rs.getLong("block_start"), rs.getLong("block_size")),
+                count - numbers.size());
 
-        if (nextValue == null) {
+        for (NumberBlock fetched : blocks) {
+            takeFrom(fetched, numbers, count);
+        }
+
+        if (numbers.size() != count) {
             throw new IllegalStateException(ERROR_GENERATE_DOCUMENT_NUMBER);
         }
 
-        return DOCUMENT_NUMBER_PATTERN.formatted(nextValue);
+        synchronized (refillLock) {
+            if (currentBlock.get() == block) {
+                currentBlock.set(blocks.get(blocks.size() - 1));
+            }
+        }
+
+        return numbers;
+    }
+
+    private void takeFrom(NumberBlock block, List<String> numbers, int count) {
+        while (numbers.size() < count) {
+            long value = block.next();
+
+            if (value <= 0) {
+                return;
+            }
+
+            numbers.add(DOCUMENT_NUMBER_PATTERN.formatted(value));
+        }
+    }
+
+    private NumberBlock fetchBlock() {
+        NumberBlock block = jdbcTemplate.query(NEXT_BLOCK_SQL, rs -> rs.next()
+                ? new NumberBlock(rs.getLong("block_start"), rs.getLong("block_size"))
+                : null);
+
+        if (block == null) {
+            throw new IllegalStateException(ERROR_GENERATE_DOCUMENT_NUMBER);
+        }
+
+        return block;
+    }
+
+    private static final class NumberBlock {
+
+        private static final NumberBlock EMPTY = new NumberBlock(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+
+        private NumberBlock(long start, long size) {
+            this.next = new AtomicLong(start);
+            this.end = start + Math.max(size, 0);
+        }
+
+        private long next() {
+            long value = next.getAndIncrement();
+            return value < end ? value : -1;
+        }
+
     }
 
 }
@@ -1,40 +1,171 @@
 package com.app.docflow.infrastructure.persistence.document.adapter;
 
+import com.app.docflow.domain.document.ApprovalRegistryRecord;
+import com.app.docflow.domain.document.ApprovalRegistryWriteException;
+import com.app.docflow.domain.document.ClaimedDocument;
 import com.app.docflow.domain.document.Document;
 import com.app.docflow.domain.document.DocumentConflictException;
+import com.app.docflow.domain.document.DocumentCursor;
+import com.app.docflow.domain.document.DocumentDetails;
+import com.app.docflow.domain.document.DocumentHistoryAction;
+import com.app.docflow.domain.document.DocumentHistoryEntry;
 import com.app.docflow.domain.document.DocumentPage;
 import com.app.docflow.domain.document.DocumentRepository;
 import com.app.docflow.domain.document.DocumentSearchCriteria;
 import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentSummary;
 import com.app.docflow.domain.document.PageQuery;
 import com.app.docflow.domain.document.SortDirection;
 import com.app.docflow.infrastructure.persistence.document.DocumentSpecifications;
 import com.app.docflow.infrastructure.persistence.document.entity.DocumentEntity;
 import com.app.docflow.infrastructure.persistence.document.mapper.DocumentPersistenceMapper;
 import com.app.docflow.infrastructure.persistence.document.repository.SpringDataDocumentJpaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.hibernate.query.NativeQuery;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Array;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Repository
 @RequiredArgsConstructor
 public class JpaDocumentRepositoryAdapter implements DocumentRepository {
 
-    private static final String DEFAULT_SORT_FIELD = "createdAt";
     private static final String CONCURRENT_MODIFICATION_CONFLICT_MESSAGE = "Concurrent modification conflict";
-    private static final Set<String> ALLOWED_SORT_FIELDS = Set.of(DEFAULT_SORT_FIELD, "updatedAt", "number", "title", "author", "status");
+    private static final String APPROVAL_REGISTRY_WRITE_FAILED_MESSAGE = "Approval registry write failed";
+    private static final String CLAIM_BY_STATUS_SQL_TEMPLATE = """
+            with claimed as (
+                update documents d
+                set lease_until = now() + ? * interval '1 millisecond'
+                where d.id in (
+                    select c.id
+                    from documents c
+                    where c.status = ?
+                      and (c.lease_until is null or c.lease_until < now())
+                      and not exists (
+                          select 1
+                          from document_processing_failures f
+                          where f.document_id = c.id
+                            and f.status = c.status
+                            and (f.dead_lettered_at is not null or f.next_attempt_at > now())
+                      )
+                      %s
+                    order by c.created_at, c.id
+                    limit ?
+                    for update skip locked
+                )
+                returning d.id, d.created_at,
+                    exists (select 1 from document_processing_failures f where f.document_id = d.id) as has_failure_record
+            )
+            select id, created_at, has_failure_record from claimed order by created_at, id
+            """;
+    private static final String CLAIM_BY_STATUS_SQL = CLAIM_BY_STATUS_SQL_TEMPLATE.formatted("");
+    private static final String CLAIM_BY_STATUS_AFTER_SQL = CLAIM_BY_STATUS_SQL_TEMPLATE.formatted("and (c.created_at, c.id) > (?, ?)");
+    private static final String INSERT_DOCUMENT_SQL = """
+            insert into documents (id, version, number, title, author, content, status, created_at, updated_at)
+            values (?, 0, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_STATUS_SQL = """
+            update documents
+            set status = ?, updated_at = ?, version = version + 1, lease_until = null
+            where id = ? and version = ?
+            """;
+    private static final String SUBMIT_DRAFTS_SQL = """
+            update documents
+            set status = ?, updated_at = ?, version = version + 1, lease_until = null
+            where id = any(?) and status = ?
+            returning id
+            """;
+    private static final String APPROVE_AND_REGISTER_SQL = """
+            with approved as (
+                update documents
+                set status = ?, updated_at = ?, version = version + 1, lease_until = null
+                where id = ? and version = ? and status = ?
+                returning id, version
+            ),
+            registered as (
+                insert into approval_registry (id, document_id, registry_number, approved_at)
+                select ?, id, ?, ?
+                from approved
+                returning document_id
+            ),
+            recorded as (
+                insert into document_history (id, document_id, action, from_status, to_status, message, created_at)
+                select ?, document_id, ?, ?, ?, ?, ?
+                from registered
+                returning document_id
+            )
+            select approved.version
+            from approved
+            join recorded on recorded.document_id = approved.id
+            """;
+    private static final String COUNT_BY_STATUS_SQL = """
+            select coalesce(sum(document_count), 0)
+            from document_status_counters
+            where status = ?
+            """;
+    private static final String COUNT_ALL_BY_STATUS_SQL = """
+            select status, sum(document_count) as document_count
+            from document_status_counters
+            group by status
+            """;
+    private static final String FIND_DETAILS_SQL = """
+            select d.id, d.version, d.number, d.title, d.author, d.content, d.status, d.created_at, d.updated_at,
+                   r.id as registry_id, r.registry_number, r.approved_at,
+                   coalesce((
+                       select json_agg(json_build_object(
+                                  'id', h.id,
+                                  'action', h.action,
+                                  'fromStatus', h.from_status,
+                                  'toStatus', h.to_status,
+                                  'message', h.message,
+                                  'createdAt', h.created_at
+                              ) order by h.created_at, h.id)
+                       from document_history h
+                       where h.document_id = d.id
+                   ), '[]'::json)::text as history
+            from documents d
+            left join approval_registry r on r.document_id = d.id
+            where d.id = ?1
+            """;
+    private static final String FIND_VERSION_SQL = "select version from documents where id = ?";
+    private static final String FIND_STATUS_SQL = "select status from documents where id = ?";
+    private static final String ESTIMATE_COUNT_SQL_PREFIX = "explain (format json) select 1 from documents d where true";
+    private static final Pattern PLAN_ROWS_PATTERN = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
+    private static final String UUID_SQL_TYPE = "uuid";
 
     private final SpringDataDocumentJpaRepository jpaRepository;
     private final DocumentPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     @Override
     public Document save(Document document) {
@@ -45,11 +176,88 @@ public class JpaDocumentRepositoryAdapter implements DocumentRepository {
         }
     }
 
+    @Override
+    public void insertAll(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_DOCUMENT_SQL, documents, documents.size(), (ps, document) -> {
+            ps.setObject(1, document.getId());
+            ps.setString(2, document.getNumber());
+            ps.setString(3, document.getTitle());
+            ps.setString(4, document.getAuthor());
+            ps.setString(5, document.getContent());
+            ps.setString(6, document.getStatus().name());
+            ps.setObject(7, OffsetDateTime.ofInstant(document.getCreatedAt(), ZoneOffset.UTC));
+            ps.setObject(8, OffsetDateTime.ofInstant(document.getUpdatedAt(), ZoneOffset.UTC));
+        });
+    }
+
+    @Override
+    public Document updateStatus(Document document) {
+        int updated = jdbcTemplate.update(UPDATE_STATUS_SQL,
+                document.getStatus().name(),
+                OffsetDateTime.ofInstant(document.getUpdatedAt(), ZoneOffset.UTC),
+                document.getId(),
+                document.getVersion());
+
+        if (updated == 0) {
+            throw new DocumentConflictException(CONCURRENT_MODIFICATION_CONFLICT_MESSAGE, null);
+        }
+
+        return Document.restore(
+                document.getId(),
+                document.getVersion() + 1,
+                document.getNumber(),
+                document.getTitle(),
+                document.getAuthor(),
+                document.getContent(),
+                document.getStatus(),
+                document.getCreatedAt(),
+                document.getUpdatedAt()
+        );
+    }
+
     @Override
     public Optional<Document> findById(UUID id) {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<DocumentDetails> findDetailsById(UUID id) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(FIND_DETAILS_SQL)
+                .setParameter(1, id)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("version", Long.class)
+                .addScalar("number", String.class)
+                .addScalar("title", String.class)
+                .addScalar("author", String.class)
+                .addScalar("content", String.class)
+                .addScalar("status", String.class)
+                .addScalar("created_at", Instant.class)
+                .addScalar("updated_at", Instant.class)
+                .addScalar("registry_id", UUID.class)
+                .addScalar("registry_number", String.class)
+                .addScalar("approved_at", Instant.class)
+                .addScalar("history", String.class)
+                .getResultList();
+
+        return rows.stream().findFirst().map(this::toDetails);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(UUID id) {
+        return jdbcTemplate.queryForList(FIND_VERSION_SQL, Long.class, id).stream().findFirst();
+    }
+
+    @Override
+    public Optional<DocumentStatus> findStatusById(UUID id) {
+        return jdbcTemplate.queryForList(FIND_STATUS_SQL, String.class, id).stream().findFirst().map(DocumentStatus::valueOf);
+    }
+
     @Override
     public List<Document> findAllByIds(List<UUID> ids) {
         return jpaRepository.findAllById(ids).stream().map(mapper::toDomain).toList();
@@ -57,48 +265,374 @@ public class JpaDocumentRepositoryAdapter implements DocumentRepository {
 
     @Override
     public DocumentPage<Document> findByIds(List<UUID> ids, PageQuery pageQuery) {
-        Page<DocumentEntity> page = jpaRepository.findByIdIn(ids, toPageable(pageQuery));
+        return findDocuments(new DocumentSearchCriteria(ids, null, null, null, null), pageQuery);
+    }
 
-        return new DocumentPage<>(
-                page.getContent().stream().map(mapper::toDomain).toList(),
-                page.getTotalElements(),
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalPages()
+    @Override
+    public DocumentPage<Document> search(DocumentSearchCriteria criteria, PageQuery pageQuery) {
+        return findDocuments(criteria, pageQuery);
+    }
+
+    @Override
+    public DocumentPage<DocumentSummary> findSummariesByIds(List<UUID> ids, PageQuery pageQuery) {
+        return findSummaries(new DocumentSearchCriteria(ids, null, null, null, null), pageQuery);
+    }
+
+    @Override
+    public DocumentPage<DocumentSummary> searchSummaries(DocumentSearchCriteria criteria, PageQuery pageQuery) {
+        return findSummaries(criteria, pageQuery);
+    }
+
+    @Override
+    public List<UUID> submitDrafts(List<UUID> ids, Instant submittedAt) {
+        return jdbcTemplate.query(SUBMIT_DRAFTS_SQL, ps -> {
+            Array idsArray = ps.getConnection().createArrayOf(UUID_SQL_TYPE, ids.toArray());
+            ps.setString(1, DocumentStatus.SUBMITTED.name());
+            ps.setObject(2, OffsetDateTime.ofInstant(submittedAt, ZoneOffset.UTC));
+            ps.setArray(3, idsArray);
+            ps.setString(4, DocumentStatus.DRAFT.name());
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+    }
+
+    @Override
+    public long approveAndRegister(Document approved, String registryNumber) {
+        OffsetDateTime approvedAtUtc = OffsetDateTime.ofInstant(approved.getUpdatedAt(), ZoneOffset.UTC);
+        DocumentHistoryEntry historyEntry = DocumentHistoryEntry.approved(approved.getId(), approved.getUpdatedAt());
+        List<Long> versions;
+
+        try {
+            versions = jdbcTemplate.queryForList(APPROVE_AND_REGISTER_SQL, Long.class,
+                    DocumentStatus.APPROVED.name(), approvedAtUtc, approved.getId(), approved.getVersion(), DocumentStatus.SUBMITTED.name(),
+                    UUID.randomUUID(), registryNumber, approvedAtUtc,
+                    historyEntry.getId(), historyEntry.getAction().name(), historyEntry.getFromStatus().name(),
+                    historyEntry.getToStatus().name(), historyEntry.getMessage(), approvedAtUtc);
+        } catch (DataIntegrityViolationException e) {
+            throw new ApprovalRegistryWriteException(APPROVAL_REGISTRY_WRITE_FAILED_MESSAGE, e);
+        }
+
+        if (versions.isEmpty()) {
+            throw new DocumentConflictException(CONCURRENT_MODIFICATION_CONFLICT_MESSAGE, null);
+        }
+
+        return versions.get(0);
+    }
+
+    @Override
+    public List<ClaimedDocument> claimByStatus(DocumentStatus status, ClaimedDocument after, int limit, Duration lease) {
+        RowMapper<ClaimedDocument> rowMapper = (rs, rowNum) -> new ClaimedDocument(
+                rs.getObject("id", UUID.class),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                rs.getBoolean("has_failure_record")
         );
+
+        if (after == null) {
+            return jdbcTemplate.query(CLAIM_BY_STATUS_SQL, rowMapper, lease.toMillis(), status.name(), limit);
+        }
+
+        return jdbcTemplate.query(CLAIM_BY_STATUS_AFTER_SQL, rowMapper, lease.toMillis(), status.name(),
+                OffsetDateTime.ofInstant(after.createdAt(), ZoneOffset.UTC), after.id(), limit);
     }
 
     @Override
-    public DocumentPage<Document> search(DocumentSearchCriteria criteria, PageQuery pageQuery) {
-        Page<DocumentEntity> page = jpaRepository.findAll(
-                DocumentSpecifications.byCriteria(criteria),
-                toPageable(pageQuery)
+    public long countByStatus(DocumentStatus status) {
+        Long count = jdbcTemplate.queryForObject(COUNT_BY_STATUS_SQL, Long.class, status.name());
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Map<DocumentStatus, Long> countAllByStatus() {
+        Map<DocumentStatus, Long> counts = new EnumMap<>(DocumentStatus.class);
+
+        for (DocumentStatus status : DocumentStatus.values()) {
+            counts.put(status, 0L);
+        }
+
+        jdbcTemplate.query(COUNT_ALL_BY_STATUS_SQL, rs -> {
+            counts.put(DocumentStatus.valueOf(rs.getString("status")), rs.getLong("document_count"));
+        });
+
+        return counts;
+    }
+
+    private DocumentPage<Document> findDocuments(DocumentSearchCriteria criteria, PageQuery pageQuery) {
+        Specification<DocumentEntity> specification = DocumentSpecifications.byCriteria(criteria);
+        String sortBy = pageQuery.sortBy();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DocumentEntity> query = cb.createQuery(DocumentEntity.class);
+        Root<DocumentEntity> root = query.from(DocumentEntity.class);
+
+        query.select(root);
+        applyPageCriteria(query, root, cb, specification, pageQuery, sortBy);
+
+        List<Document> items = fetchPage(query, pageQuery).stream().map(mapper::toDomain).toList();
+
+        return toDocumentPage(items, criteria, specification, pageQuery, sortBy,
+                document -> sortValue(sortBy, document.getId(), document.getNumber(), document.getTitle(), document.getAuthor(),
+                        document.getStatus(), document.getCreatedAt(), document.getUpdatedAt()),
+                Document::getId);
+    }
+
+    private DocumentPage<DocumentSummary> findSummaries(DocumentSearchCriteria criteria, PageQuery pageQuery) {
+        Specification<DocumentEntity> specification = DocumentSpecifications.byCriteria(criteria);
+        String sortBy = pageQuery.sortBy();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DocumentSummary> query = cb.createQuery(DocumentSummary.class);
+        Root<DocumentEntity> root = query.from(DocumentEntity.class);
+
+        query.select(cb.construct(DocumentSummary.class,
+                root.get("id"),
+                root.get("version"),
+                root.get("number"),
+                root.get("title"),
+                root.get("author"),
+                root.get("status"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+        applyPageCriteria(query, root, cb, specification, pageQuery, sortBy);
+
+        List<DocumentSummary> items = fetchPage(query, pageQuery);
+
+        return toDocumentPage(items, criteria, specification, pageQuery, sortBy,
+                summary -> sortValue(sortBy, summary.id(), summary.number(), summary.title(), summary.author(),
+                        summary.status(), summary.createdAt(), summary.updatedAt()),
+                DocumentSummary::id);
+    }
+
+    private void applyPageCriteria(
+            CriteriaQuery<?> query,
+            Root<DocumentEntity> root,
+            CriteriaBuilder cb,
+            Specification<DocumentEntity> specification,
+            PageQuery pageQuery,
+            String sortBy
+    ) {
+        Predicate predicate = specification.toPredicate(root, query, cb);
+
+        if (pageQuery.isKeyset()) {
+            Predicate keyset = keysetPredicate(root, cb, pageQuery, sortBy);
+            predicate = predicate == null ? keyset : cb.and(predicate, keyset);
+        }
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (pageQuery.sortDirection() == SortDirection.ASC) {
+            query.orderBy(cb.asc(root.get(sortBy)), cb.asc(root.get("id")));
+        } else {
+            query.orderBy(cb.desc(root.get(sortBy)), cb.desc(root.get("id")));
+        }
+    }
+
+    private Predicate keysetPredicate(Root<DocumentEntity> root, CriteriaBuilder cb, PageQuery pageQuery, String sortBy) {
+        DocumentCursor cursor = pageQuery.cursor();
+        Comparable<Object> value = parseCursorValue(sortBy, cursor.value());
+        Path<Comparable<Object>> field = root.get(sortBy);
+        Path<UUID> id = root.get("id");
+
+        if (pageQuery.sortDirection() == SortDirection.ASC) {
+            return cb.and(
+                    cb.greaterThanOrEqualTo(field, value),
+                    cb.or(cb.greaterThan(field, value), cb.greaterThan(id, cursor.id()))
+            );
+        }
+
+        return cb.and(
+                cb.lessThanOrEqualTo(field, value),
+                cb.or(cb.lessThan(field, value), cb.lessThan(id, cursor.id()))
         );
+    }
+
+    private <T> List<T> fetchPage(CriteriaQuery<T> query, PageQuery pageQuery) {
+        TypedQuery<T> typedQuery = entityManager.createQuery(query).setMaxResults(pageQuery.size() + 1);
+
+        if (!pageQuery.isKeyset()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageQuery.offset()));
+        }
+
+        return typedQuery.getResultList();
+    }
+
+    private <T> DocumentPage<T> toDocumentPage(
+            List<T> fetched,
+            DocumentSearchCriteria criteria,
+            Specification<DocumentEntity> specification,
+            PageQuery pageQuery,
+            String sortBy,
+            Function<T, String> sortValue,
+            Function<T, UUID> idValue
+    ) {
+        boolean hasNext = fetched.size() > pageQuery.size();
+        List<T> items = hasNext ? List.copyOf(fetched.subList(0, pageQuery.size())) : fetched;
+        DocumentCursor nextCursor = null;
+
+        if (hasNext) {
+            T last = items.get(items.size() - 1);
+            nextCursor = new DocumentCursor(sortBy, pageQuery.sortDirection(), sortValue.apply(last), idValue.apply(last));
+        }
+
+        Long totalElements = switch (pageQuery.countMode()) {
+            case NONE -> null;
+            case EXACT -> knownTotal(pageQuery, items, hasNext) ? pageQuery.offset() + items.size() : countDocuments(specification);
+            case ESTIMATE -> knownTotal(pageQuery, items, hasNext)
+                    ? pageQuery.offset() + items.size()
+                    : Math.max(estimateCount(criteria), pageQuery.isKeyset() ? items.size() : pageQuery.offset() + items.size() + 1);
+        };
+        Integer totalPages = totalElements == null ? null : (int) ((totalElements + pageQuery.size() - 1) / pageQuery.size());
 
         return new DocumentPage<>(
-                page.getContent().stream().map(mapper::toDomain).toList(),
-                page.getTotalElements(),
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalPages()
+                items,
+                totalElements,
+                pageQuery.isKeyset() ? null : pageQuery.page(),
+                pageQuery.size(),
+                totalPages,
+                hasNext,
+                nextCursor,
+                pageQuery.countMode()
         );
     }
 
-    @Override
-    public List<UUID> findIdsByStatus(DocumentStatus status, int limit) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, DEFAULT_SORT_FIELD));
-        return jpaRepository.findIdsByStatus(status, pageable);
+    private boolean knownTotal(PageQuery pageQuery, List<?> items, boolean hasNext) {
+        return !pageQuery.isKeyset() && !hasNext && (pageQuery.page() == 0 || !items.isEmpty());
     }
 
-    @Override
-    public long countByStatus(DocumentStatus status) {
-        return jpaRepository.countByStatus(status);
+    private long countDocuments(Specification<DocumentEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<DocumentEntity> root = query.from(DocumentEntity.class);
+
+        query.select(cb.count(root)).where(specification.toPredicate(root, query, cb));
+
+        return entityManager.createQuery(query).getSingleResult();
     }
 
-    private Pageable toPageable(PageQuery pageQuery) {
-        String sortBy = ALLOWED_SORT_FIELDS.contains(pageQuery.sortBy()) ? pageQuery.sortBy() : DEFAULT_SORT_FIELD;
-        Sort.Direction direction = pageQuery.sortDirection() == SortDirection.ASC ? Sort.Direction.ASC : Sort.Direction.DESC;
-        return PageRequest.of(pageQuery.page(), pageQuery.size(), Sort.by(direction, sortBy));
+    private long estimateCount(DocumentSearchCriteria criteria) {
+        boolean statusOnly = (criteria.ids() == null || criteria.ids().isEmpty())
+                && (criteria.author() == null || criteria.author().isBlank())
+                && criteria.createdFrom() == null
+                && criteria.createdTo() == null;
+
+        if (statusOnly) {
+            return criteria.status() == null
+                    ? countAllByStatus().values().stream().mapToLong(Long::longValue).sum()
+                    : countByStatus(criteria.status());
+        }
+
+        StringBuilder sql = new StringBuilder(ESTIMATE_COUNT_SQL_PREFIX);
+        List<Object> params = new ArrayList<>();
+
+        if (criteria.ids() != null && !criteria.ids().isEmpty()) {
+            sql.append(" and d.id = any(?)");
+            params.add(criteria.ids());
+        }
+
+        if (criteria.status() != null) {
+            sql.append(" and d.status = ?");
+            params.add(criteria.status().name());
+        }
+
+        if (criteria.author() != null && !criteria.author().isBlank()) {
+            sql.append(" and d.author = ?");
+            params.add(criteria.author().trim());
+        }
+
+        if (criteria.createdFrom() != null) {
+            sql.append(" and d.created_at >= ?");
+            params.add(OffsetDateTime.ofInstant(criteria.createdFrom(), ZoneOffset.UTC));
+        }
+
+        if (criteria.createdTo() != null) {
+            sql.append(" and d.created_at <= ?");
+            params.add(OffsetDateTime.ofInstant(criteria.createdTo(), ZoneOffset.UTC));
+        }
+
+        String plan = jdbcTemplate.query(sql.toString(), ps -> {
+            for (int i = 0; i < params.size(); i++) {
+                Object param = params.get(i);
+
+                if (param instanceof List<?> ids) {
+                    ps.setArray(i + 1, ps.getConnection().createArrayOf(UUID_SQL_TYPE, ids.toArray()));
+                } else {
+                    ps.setObject(i + 1, param);
+                }
+            }
+        }, rs -> rs.next() ? rs.getString(1) : null);
+
+        Matcher matcher = PLAN_ROWS_PATTERN.matcher(plan == null ? "" : plan);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private DocumentDetails toDetails(Object[] row) {
+        UUID id = (UUID) row[0];
+        Document document = Document.restore(id, (Long) row[1], (String) row[2], (String) row[3], (String) row[4],
+                (String) row[5], DocumentStatus.valueOf((String) row[6]), (Instant) row[7], (Instant) row[8]);
+        ApprovalRegistryRecord registryRecord = row[9] == null
+                ? null
+                : ApprovalRegistryRecord.restore((UUID) row[9], id, (String) row[10], (Instant) row[11]);
+
+        return new DocumentDetails(document, toHistory(id, (String) row[12]), registryRecord);
+    }
+
+    private List<DocumentHistoryEntry> toHistory(UUID documentId, String json) {
+        List<DocumentHistoryEntry> history = new ArrayList<>();
+
+        try {
+            for (JsonNode node : objectMapper.readTree(json)) {
+                history.add(DocumentHistoryEntry.restore(
+                        UUID.fromString(node.get("id").asText()),
+                        documentId,
+                        DocumentHistoryAction.valueOf(node.get("action").asText()),
+                        node.get("fromStatus").isNull() ? null : DocumentStatus.valueOf(node.get("fromStatus").asText()),
+                        DocumentStatus.valueOf(node.get("toStatus").asText()),
+                        node.get("message").isNull() ? null : node.get("message").asText(),
+                        OffsetDateTime.parse(node.get("createdAt").asText()).toInstant()
+                ));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed history of document " + documentId, e);
+        }
+
+        return history;
+    }
+
+    private static String sortValue(
+            String sortBy,
+            UUID id,
+            String number,
+            String title,
+            String author,
+            DocumentStatus status,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+        Object value = switch (sortBy) {
+            case "updatedAt" -> updatedAt;
+            case "number" -> number;
+            case "title" -> title;
+            case "author" -> author;
+            case "status" -> status.name();
+            default -> createdAt;
+        };
+
+        if (value == null) {
+            throw new IllegalStateException("Sort value is missing for document " + id);
+        }
+
+        return value.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> parseCursorValue(String sortBy, String value) {
+        try {
+            Comparable<?> parsed = switch (sortBy) {
+                case "createdAt", "updatedAt" -> Instant.parse(value);
+                case "status" -> DocumentStatus.valueOf(value);
+                default -> value;
+            };
+            return (Comparable<Object>) parsed;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
     }
 
 }
@@ -51,4 +51,7 @@ public class DocumentEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
 }
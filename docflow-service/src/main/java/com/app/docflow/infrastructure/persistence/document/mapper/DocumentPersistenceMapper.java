@@ -3,10 +3,12 @@ package com.app.docflow.infrastructure.persistence.document.mapper;
 import com.app.docflow.domain.document.Document;
 import com.app.docflow.infrastructure.persistence.document.entity.DocumentEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface DocumentPersistenceMapper {
 
+    @Mapping(target = "leaseUntil", ignore = true)
     DocumentEntity toEntity(Document document);
 
     default Document toDomain(DocumentEntity entity) {
@@ -0,0 +1,122 @@
+package com.app.docflow.infrastructure.persistence.failure.adapter;
+
+import com.app.docflow.domain.document.DocumentFailure;
+import com.app.docflow.domain.document.DocumentProcessingFailure;
+import com.app.docflow.domain.document.DocumentProcessingFailureRepository;
+import com.app.docflow.domain.document.DocumentRetryPolicy;
+import com.app.docflow.domain.document.DocumentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcDocumentProcessingFailureRepositoryAdapter implements DocumentProcessingFailureRepository {
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+    private static final String UUID_SQL_TYPE = "uuid";
+    private static final String RECORD_FAILURE_SQL = """
+            insert into document_processing_failures as f
+                (document_id, status, attempts, last_result, last_error, next_attempt_at, dead_lettered_at, updated_at)
+            values (?, ?, 1, ?, ?, now() + ? * interval '1 millisecond', case when ? <= 1 then now() end, now())
+            on conflict (document_id) do update
+            set status = excluded.status,
+                attempts = case when f.status = excluded.status then f.attempts + 1 else 1 end,
+                last_result = excluded.last_result,
+                last_error = excluded.last_error,
+                next_attempt_at = now() + case when f.status = excluded.status
+                    then least(? * power(2, f.attempts), ?)
+                    else ?
+                end * interval '1 millisecond',
+                dead_lettered_at = case when f.status = excluded.status and f.attempts + 1 >= ? then now() end,
+                updated_at = now()
+            """;
+    private static final String CLEAR_SQL = "delete from document_processing_failures where document_id = any(?)";
+    private static final String FIND_DEAD_LETTERED_SQL = """
+            select document_id, status, attempts, last_result, last_error, next_attempt_at, dead_lettered_at, updated_at
+            from document_processing_failures
+            where dead_lettered_at is not null
+            order by dead_lettered_at desc
+            limit ?
+            """;
+    private static final String REQUEUE_SQL = """
+            delete from document_processing_failures
+            where document_id = ? and dead_lettered_at is not null
+            """;
+    private static final RowMapper<DocumentProcessingFailure> FAILURE_ROW_MAPPER = (rs, rowNum) -> new DocumentProcessingFailure(
+            rs.getObject("document_id", UUID.class),
+            DocumentStatus.valueOf(rs.getString("status")),
+            rs.getInt("attempts"),
+            rs.getString("last_result"),
+            rs.getString("last_error"),
+            toInstant(rs, "next_attempt_at"),
+            toInstant(rs, "dead_lettered_at"),
+            toInstant(rs, "updated_at")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void recordFailures(DocumentStatus status, List<DocumentFailure> failures, DocumentRetryPolicy retryPolicy) {
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        long initialBackoffMs = retryPolicy.initialBackoff().toMillis();
+        long maxBackoffMs = retryPolicy.maxBackoff().toMillis();
+
+        jdbcTemplate.batchUpdate(RECORD_FAILURE_SQL, failures, failures.size(), (ps, failure) -> {
+            ps.setObject(1, failure.documentId());
+            ps.setString(2, status.name());
+            ps.setString(3, failure.result());
+            ps.setString(4, truncate(failure.error()));
+            ps.setLong(5, initialBackoffMs);
+            ps.setInt(6, retryPolicy.maxAttempts());
+            ps.setLong(7, initialBackoffMs);
+            ps.setLong(8, maxBackoffMs);
+            ps.setLong(9, initialBackoffMs);
+            ps.setInt(10, retryPolicy.maxAttempts());
+        });
+    }
+
+    @Override
+    public void clear(List<UUID> documentIds) {
+        if (documentIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update(CLEAR_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf(UUID_SQL_TYPE, documentIds.toArray())));
+    }
+
+    @Override
+    public List<DocumentProcessingFailure> findDeadLettered(int limit) {
+        return jdbcTemplate.query(FIND_DEAD_LETTERED_SQL, FAILURE_ROW_MAPPER, limit);
+    }
+
+    @Override
+    public boolean requeue(UUID documentId) {
+        return jdbcTemplate.update(REQUEUE_SQL, documentId) > 0;
+    }
+
+    private static Instant toInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+}
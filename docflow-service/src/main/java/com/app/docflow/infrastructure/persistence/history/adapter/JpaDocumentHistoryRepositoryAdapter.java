@@ -5,8 +5,11 @@ import com.app.docflow.domain.document.DocumentHistoryRepository;
 import com.app.docflow.infrastructure.persistence.history.mapper.DocumentHistoryPersistenceMapper;
 import com.app.docflow.infrastructure.persistence.history.repository.SpringDataDocumentHistoryJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,14 +17,37 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class JpaDocumentHistoryRepositoryAdapter implements DocumentHistoryRepository {
 
+    private static final String INSERT_HISTORY_SQL = """
+            insert into document_history (id, document_id, action, from_status, to_status, message, created_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+
     private final SpringDataDocumentHistoryJpaRepository jpaRepository;
     private final DocumentHistoryPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void save(DocumentHistoryEntry entry) {
         jpaRepository.save(mapper.toEntity(entry));
     }
 
+    @Override
+    public void saveAll(List<DocumentHistoryEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setObject(1, entry.getId());
+            ps.setObject(2, entry.getDocumentId());
+            ps.setString(3, entry.getAction().name());
+            ps.setString(4, entry.getFromStatus() == null ? null : entry.getFromStatus().name());
+            ps.setString(5, entry.getToStatus().name());
+            ps.setString(6, entry.getMessage());
+            ps.setObject(7, OffsetDateTime.ofInstant(entry.getCreatedAt(), ZoneOffset.UTC));
+        });
+    }
+
     @Override
     public List<DocumentHistoryEntry> findByDocumentId(UUID documentId) {
         return jpaRepository.findByDocumentIdOrderByCreatedAtAsc(documentId).stream().map(mapper::toDomain).toList();
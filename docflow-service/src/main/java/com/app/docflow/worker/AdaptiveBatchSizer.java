@@ -0,0 +1,70 @@
+package com.app.docflow.worker;
+
+import com.app.docflow.application.document.command.DocumentCommandService;
+import com.app.docflow.config.DocflowProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class AdaptiveBatchSizer {
+
+    static final String BATCH_SIZE_METRIC = "docflow.worker.batch.size";
+
+    private final boolean enabled;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int increaseStep;
+    private final double decreaseFactor;
+    private final long targetLatencyMs;
+    private final double maxErrorRate;
+
+    private volatile int current;
+
+    public AdaptiveBatchSizer(int initialBatchSize, DocflowProperties.AdaptiveBatch settings) {
+        if (!(settings.getDecreaseFactor() > 0 && settings.getDecreaseFactor() < 1)) {
+            throw new IllegalArgumentException("decreaseFactor must be between 0 and 1 exclusive: " + settings.getDecreaseFactor());
+        }
+
+        this.enabled = settings.isEnabled();
+        this.minBatchSize = Math.min(DocumentCommandService.MAX_BATCH_SIZE, Math.max(1, settings.getMinBatchSize()));
+        this.maxBatchSize = Math.min(DocumentCommandService.MAX_BATCH_SIZE, Math.max(minBatchSize, settings.getMaxBatchSize()));
+        this.increaseStep = Math.max(1, settings.getIncreaseStep());
+        this.decreaseFactor = settings.getDecreaseFactor();
+        this.targetLatencyMs = settings.getTargetLatencyMs();
+        this.maxErrorRate = settings.getMaxErrorRate();
+        this.current = enabled ? clamp(initialBatchSize) : Math.min(DocumentCommandService.MAX_BATCH_SIZE, Math.max(1, initialBatchSize));
+    }
+
+    public static AdaptiveBatchSizer register(String worker, DocflowProperties properties, MeterRegistry meterRegistry) {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(properties.getBatchSize(), properties.getAdaptiveBatch());
+
+        Gauge.builder(BATCH_SIZE_METRIC, sizer, AdaptiveBatchSizer::current)
+                .tag("worker", worker)
+                .description("Current adaptive batch size of the background worker")
+                .register(meterRegistry);
+
+        return sizer;
+    }
+
+    public int current() {
+        return current;
+    }
+
+    public synchronized void record(int requested, int failed, long elapsedMs) {
+        if (!enabled || requested == 0) {
+            return;
+        }
+
+        double errorRate = (double) failed / requested;
+
+        if (elapsedMs > targetLatencyMs || errorRate > maxErrorRate) {
+            current = clamp((int) (current * decreaseFactor));
+        } else if (requested >= current) {
+            current = clamp(current + increaseStep);
+        }
+    }
+
+    private int clamp(int batchSize) {
+        return Math.min(maxBatchSize, Math.max(minBatchSize, batchSize));
+    }
+
+}
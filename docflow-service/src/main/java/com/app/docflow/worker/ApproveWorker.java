@@ -4,49 +4,82 @@ import com.app.docflow.aop.LogExecutionTime;
 import com.app.docflow.application.document.command.DocumentCommandService;
 import com.app.docflow.application.document.command.model.BatchOperationResult;
 import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.ClaimedDocument;
+import com.app.docflow.domain.document.DocumentProcessingFailureRepository;
 import com.app.docflow.domain.document.DocumentRepository;
 import com.app.docflow.domain.document.DocumentStatus;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ApproveWorker {
 
     private final DocflowProperties properties;
     private final DocumentRepository documentRepository;
     private final DocumentCommandService documentCommandService;
+    private final AdaptiveBatchSizer batchSizer;
+    private final WorkerRunGuard runGuard = new WorkerRunGuard();
+    private final ProcessingOutcomeRecorder outcomeRecorder;
 
-    @Scheduled(fixedDelayString = "${docflow.workers.approveDelayMs:3000}")
+    public ApproveWorker(
+            DocflowProperties properties,
+            DocumentRepository documentRepository,
+            DocumentCommandService documentCommandService,
+            DocumentProcessingFailureRepository failureRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.documentRepository = documentRepository;
+        this.documentCommandService = documentCommandService;
+        this.batchSizer = AdaptiveBatchSizer.register("approve", properties, meterRegistry);
+        this.outcomeRecorder = new ProcessingOutcomeRecorder(failureRepository, properties.getRetry());
+    }
+
+    @Scheduled(fixedDelayString = "${docflow.workers.approveDelayMs:30000}")
     @LogExecutionTime("worker.approve")
     public void run() {
         if (!properties.getWorkers().isEnabled()) {
             return;
         }
 
-        int batchSize = properties.getBatchSize();
+        runGuard.run(this::processSubmittedDocuments);
+    }
+
+    private void processSubmittedDocuments() {
+        Duration lease = Duration.ofMillis(properties.getWorkers().getClaimLeaseMs());
+
+        ClaimedDocument cursor = null;
 
         while (true) {
-            List<UUID> ids = documentRepository.findIdsByStatus(DocumentStatus.SUBMITTED, batchSize);
+            int batchSize = batchSizer.current();
+            List<ClaimedDocument> claimed = documentRepository.claimByStatus(DocumentStatus.SUBMITTED, cursor, batchSize, lease);
 
-            if (ids.isEmpty()) {
+            if (claimed.isEmpty()) {
                 return;
             }
 
+            cursor = claimed.get(claimed.size() - 1);
+            List<UUID> ids = claimed.stream().map(ClaimedDocument::id).toList();
+
             long started = System.currentTimeMillis();
-            BatchOperationResult result = documentCommandService.approveBatch(ids);
+            BatchOperationResult result = properties.getWorkers().isSingleStatementApprove()
+                    ? documentCommandService.approveBatchInSingleStatements(ids)
+                    : documentCommandService.approveBatch(ids);
             long elapsed = System.currentTimeMillis() - started;
+            batchSizer.record(ids.size(), result.errorCount(), elapsed);
+            int failed = outcomeRecorder.record(DocumentStatus.SUBMITTED, claimed, result);
 
             long remaining = documentRepository.countByStatus(DocumentStatus.SUBMITTED);
 
-            log.info("approve worker batch: requested={}, success={}, elapsedMs={}, remainingStatusSUBMITTED={}",
-                    ids.size(), result.successCount(), elapsed, remaining);
+            log.info("approve worker batch: requested={}, success={}, failed={}, elapsedMs={}, remainingStatusSUBMITTED={}, nextBatchSize={}",
+                    ids.size(), result.successCount(), failed, elapsed, remaining, batchSizer.current());
 
             if (ids.size() < batchSize) {
                 return;
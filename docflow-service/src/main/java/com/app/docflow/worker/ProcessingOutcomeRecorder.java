@@ -0,0 +1,61 @@
+package com.app.docflow.worker;
+
+import com.app.docflow.application.document.command.model.BatchOperationItemResult;
+import com.app.docflow.application.document.command.model.BatchOperationItemStatus;
+import com.app.docflow.application.document.command.model.BatchOperationResult;
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.ClaimedDocument;
+import com.app.docflow.domain.document.DocumentFailure;
+import com.app.docflow.domain.document.DocumentProcessingFailureRepository;
+import com.app.docflow.domain.document.DocumentRetryPolicy;
+import com.app.docflow.domain.document.DocumentStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class ProcessingOutcomeRecorder {
+
+    private final DocumentProcessingFailureRepository failureRepository;
+    private final DocumentRetryPolicy retryPolicy;
+
+    public ProcessingOutcomeRecorder(DocumentProcessingFailureRepository failureRepository, DocflowProperties.Retry retry) {
+        this.failureRepository = failureRepository;
+        this.retryPolicy = new DocumentRetryPolicy(
+                retry.getMaxAttempts(),
+                Duration.ofMillis(retry.getInitialBackoffMs()),
+                Duration.ofMillis(retry.getMaxBackoffMs())
+        );
+    }
+
+    public int record(DocumentStatus status, List<ClaimedDocument> claimed, BatchOperationResult result) {
+        Set<UUID> idsWithFailureRecord = claimed.stream()
+                .filter(ClaimedDocument::hasFailureRecord)
+                .map(ClaimedDocument::id)
+                .collect(Collectors.toSet());
+        List<UUID> recoveredIds = new ArrayList<>();
+        List<DocumentFailure> failures = new ArrayList<>();
+
+        for (BatchOperationItemResult item : result.results()) {
+            if (item.status() == BatchOperationItemStatus.SUCCESS) {
+                if (idsWithFailureRecord.contains(item.documentId())) {
+                    recoveredIds.add(item.documentId());
+                }
+            } else if (item.isError() || item.status() == BatchOperationItemStatus.CONFLICT) {
+                failures.add(new DocumentFailure(item.documentId(), item.status().name(), item.message()));
+            }
+        }
+
+        if (!recoveredIds.isEmpty()) {
+            failureRepository.clear(recoveredIds);
+        }
+
+        failureRepository.recordFailures(status, failures, retryPolicy);
+
+        return failures.size();
+    }
+
+}
@@ -4,53 +4,83 @@ import com.app.docflow.aop.LogExecutionTime;
 import com.app.docflow.application.document.command.DocumentCommandService;
 import com.app.docflow.application.document.command.model.BatchOperationResult;
 import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.ClaimedDocument;
+import com.app.docflow.domain.document.DocumentProcessingFailureRepository;
 import com.app.docflow.domain.document.DocumentRepository;
 import com.app.docflow.domain.document.DocumentStatus;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SubmitWorker {
 
     private final DocflowProperties properties;
     private final DocumentRepository documentRepository;
     private final DocumentCommandService documentCommandService;
+    private final AdaptiveBatchSizer batchSizer;
+    private final WorkerRunGuard runGuard = new WorkerRunGuard();
+    private final ProcessingOutcomeRecorder outcomeRecorder;
 
-    @Scheduled(fixedDelayString = "${docflow.workers.submitDelayMs:3000}")
+    public SubmitWorker(
+            DocflowProperties properties,
+            DocumentRepository documentRepository,
+            DocumentCommandService documentCommandService,
+            DocumentProcessingFailureRepository failureRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.documentRepository = documentRepository;
+        this.documentCommandService = documentCommandService;
+        this.batchSizer = AdaptiveBatchSizer.register("submit", properties, meterRegistry);
+        this.outcomeRecorder = new ProcessingOutcomeRecorder(failureRepository, properties.getRetry());
+    }
+
+    @Scheduled(fixedDelayString = "${docflow.workers.submitDelayMs:30000}")
     @LogExecutionTime("worker.submit")
     public void run() {
         if (!properties.getWorkers().isEnabled()) {
             return;
         }
 
-        processDraftDocuments();
+        runGuard.run(this::processDraftDocuments);
     }
 
     private void processDraftDocuments() {
         DocumentStatus status = DocumentStatus.DRAFT;
-        int batchSize = properties.getBatchSize();
+        Duration lease = Duration.ofMillis(properties.getWorkers().getClaimLeaseMs());
+
+        ClaimedDocument cursor = null;
 
         while (true) {
-            List<java.util.UUID> ids = documentRepository.findIdsByStatus(status, batchSize);
+            int batchSize = batchSizer.current();
+            List<ClaimedDocument> claimed = documentRepository.claimByStatus(status, cursor, batchSize, lease);
 
-            if (ids.isEmpty()) {
+            if (claimed.isEmpty()) {
                 return;
             }
 
+            cursor = claimed.get(claimed.size() - 1);
+            List<UUID> ids = claimed.stream().map(ClaimedDocument::id).toList();
+
             long started = System.currentTimeMillis();
-            BatchOperationResult result = documentCommandService.submitBatch(ids);
+            BatchOperationResult result = properties.getWorkers().isBulkSubmit()
+                    ? documentCommandService.submitBatchInBulk(ids)
+                    : documentCommandService.submitBatch(ids);
             long elapsed = System.currentTimeMillis() - started;
+            batchSizer.record(ids.size(), result.errorCount(), elapsed);
+            int failed = outcomeRecorder.record(status, claimed, result);
 
             long remaining = documentRepository.countByStatus(status);
 
-            log.info("submit worker batch: requested={}, success={}, elapsedMs={}, remainingStatus={}={}",
-                    ids.size(), result.successCount(), elapsed, status, remaining);
+            log.info("submit worker batch: requested={}, success={}, failed={}, elapsedMs={}, remainingStatus={}={}, nextBatchSize={}",
+                    ids.size(), result.successCount(), failed, elapsed, status, remaining, batchSizer.current());
 
             if (ids.size() < batchSize) {
                 return;
@@ -0,0 +1,28 @@
+package com.app.docflow.worker;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class WorkerRunGuard {
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean rerunRequested = new AtomicBoolean();
+
+    public void run(Runnable task) {
+        rerunRequested.set(true);
+
+        while (rerunRequested.get() && running.compareAndSet(false, true)) {
+            try {
+                while (rerunRequested.getAndSet(false)) {
+                    task.run();
+                }
+            } finally {
+                release();
+            }
+        }
+    }
+
+    void release() {
+        running.set(false);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.app.docflow.worker;
+
+import com.app.docflow.domain.document.DocumentStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class WorkerWakeUpListener {
+
+    private final SubmitWorker submitWorker;
+    private final ApproveWorker approveWorker;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @EventListener
+    public void onDocumentStatusChanged(DocumentStatusChangedEvent event) {
+        switch (event.status()) {
+            case DRAFT -> taskScheduler.execute(submitWorker::run);
+            case SUBMITTED -> taskScheduler.execute(approveWorker::run);
+            default -> {
+            }
+        }
+    }
+
+}
@@ -1,9 +1,17 @@
 package com.app.docflow;
 
 import com.app.docflow.domain.document.ApprovalRegistryWriteException;
+import com.app.docflow.domain.document.DocumentFailure;
+import com.app.docflow.domain.document.DocumentProcessingFailureRepository;
+import com.app.docflow.domain.document.DocumentRetryPolicy;
 import com.app.docflow.domain.document.DocumentStatus;
 import com.app.docflow.infrastructure.persistence.document.repository.SpringDataDocumentJpaRepository;
+import com.app.docflow.infrastructure.persistence.history.entity.DocumentHistoryEntity;
 import com.app.docflow.infrastructure.persistence.registry.adapter.JpaApprovalRegistryRepositoryAdapter;
+import com.app.docflow.infrastructure.persistence.registry.entity.ApprovalRegistryEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
@@ -11,29 +19,37 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.reset;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(properties = {
-        "docflow.workers.enabled=false"
+        "docflow.workers.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
 })
 @AutoConfigureMockMvc
 @Testcontainers
@@ -61,6 +77,12 @@ class DocumentApiIntegrationTest {
     @Autowired
     SpringDataDocumentJpaRepository documentJpaRepository;
 
+    @Autowired
+    DocumentProcessingFailureRepository documentProcessingFailureRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     @MockitoSpyBean
     JpaApprovalRegistryRepositoryAdapter approvalRegistryRepositoryAdapter;
 
@@ -95,6 +117,115 @@ class DocumentApiIntegrationTest {
                 .andExpect(jsonPath("$.approvalRegistry.registryNumber").exists());
     }
 
+    @Test
+    void getOneReadsDocumentHistoryAndRegistryInSingleStatement() throws Exception {
+        String id = jsonField(createDocument("Single read", "alice"), "id");
+
+        mockMvc.perform(post("/api/v1/documents/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + id + "\"]}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/documents/approve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + id + "\"]}"))
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/documents/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.document.status", is("APPROVED")))
+                .andExpect(jsonPath("$.history", hasSize(3)))
+                .andExpect(jsonPath("$.history[0].action", is("CREATED")))
+                .andExpect(jsonPath("$.history[0].fromStatus", nullValue()))
+                .andExpect(jsonPath("$.history[2].toStatus", is("APPROVED")))
+                .andExpect(jsonPath("$.approvalRegistry.registryNumber", startsWith("APR-")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getOneHonoursIfNoneMatchUntilDocumentVersionChanges() throws Exception {
+        String id = jsonField(createDocument("Polled doc", "alice"), "id");
+
+        String draftETag = mockMvc.perform(get("/api/v1/documents/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/documents/{id}", id).header(HttpHeaders.IF_NONE_MATCH, draftETag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/documents/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + id + "\"]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/documents/{id}", id).header(HttpHeaders.IF_NONE_MATCH, draftETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.document.status", is("SUBMITTED")))
+                .andExpect(jsonPath("$.history", hasSize(2)));
+    }
+
+    @Test
+    void awaitStatusCompletesWhenSubmitCommits() throws Exception {
+        String id = jsonField(createDocument("Awaited doc", "alice"), "id");
+
+        MvcResult pending = mockMvc.perform(get("/api/v1/documents/{id}/await", id)
+                        .param("status", "SUBMITTED")
+                        .param("timeout", "10s"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/api/v1/documents/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + id + "\"]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("SUBMITTED")))
+                .andExpect(jsonPath("$.reached", is(true)));
+    }
+
+    @Test
+    void createIssuesOneInsertPerNewRowWithoutMergeSelect() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        createDocument("Insert only", "alice");
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void approveWritesRegistryAndHistoryWithoutLoadingThem() throws Exception {
+        String id = jsonField(createDocument("Approve insert only", "alice"), "id");
+
+        mockMvc.perform(post("/api/v1/documents/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + id + "\"]}"))
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/v1/documents/approve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + id + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status", is("SUCCESS")));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(statistics.getEntityStatistics(ApprovalRegistryEntity.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(DocumentHistoryEntity.class.getName()).getLoadCount()).isZero();
+    }
+
     @Test
     void createReturnsDraftWithGeneratedNumber() throws Exception {
         mockMvc.perform(post("/api/v1/documents")
@@ -106,6 +237,48 @@ class DocumentApiIntegrationTest {
                 .andExpect(jsonPath("$.id").isNotEmpty());
     }
 
+    @Test
+    void batchCreateInsertsDraftsWithNumbersAndCreatedHistory() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/documents/_batch-create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"documents\":[{\"title\":\"Bulk 1\",\"author\":\"alice\"},"
+                                + "{\"title\":\"Bulk 2\",\"author\":\"bob\",\"content\":\"body\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.results[0].status", is("SUCCESS")))
+                .andExpect(jsonPath("$.results[1].status", is("SUCCESS")))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        mockMvc.perform(get("/api/v1/documents/{id}", jsonField(response, "documentId")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.document.status", is("DRAFT")))
+                .andExpect(jsonPath("$.document.number", startsWith("DOC-")))
+                .andExpect(jsonPath("$.history", hasSize(1)));
+    }
+
+    @Test
+    void importCopiesNdjsonRowsAndReportsRejectedOnes() throws Exception {
+        mockMvc.perform(post("/api/v1/documents/_import")
+                        .param("format", "NDJSON")
+                        .contentType("application/x-ndjson")
+                        .content("{\"title\":\"Imported 1\",\"author\":\"legacy\",\"content\":\"a,\\\"b\\\"\\nc\"}\n"
+                                + "{\"title\":\"\",\"author\":\"legacy\"}\n"
+                                + "{\"title\":\"Imported 2\",\"author\":\"legacy\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.rejections[0].recordNumber", is(2)));
+
+        mockMvc.perform(get("/api/v1/documents/search").param("author", "legacy").param("sortBy", "title").param("sortDir", "ASC")
+                        .param("fields", "content"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].content", is("a,\"b\"\nc")))
+                .andExpect(jsonPath("$.items[1].status", is("DRAFT")));
+    }
+
     @Test
     void batchSubmitReturnsSuccessForMultipleDraftDocuments() throws Exception {
         String id1 = jsonField(createDocument("Doc 1", "alice"), "id");
@@ -120,6 +293,48 @@ class DocumentApiIntegrationTest {
                 .andExpect(jsonPath("$.results[1].status", is("SUCCESS")));
     }
 
+    @Test
+    void statsReturnsMaintainedCountersByStatus() throws Exception {
+        String submittedId = jsonField(createDocument("Doc submitted", "alice"), "id");
+        createDocument("Doc draft", "bob");
+
+        mockMvc.perform(post("/api/v1/documents/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + submittedId + "\"]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/documents/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countsByStatus.DRAFT", is(1)))
+                .andExpect(jsonPath("$.countsByStatus.SUBMITTED", is(1)))
+                .andExpect(jsonPath("$.countsByStatus.APPROVED", is(0)))
+                .andExpect(jsonPath("$.total", is(2)));
+    }
+
+    @Test
+    void deadLettersListsExhaustedDocumentsAndRequeueRemovesThem() throws Exception {
+        String id = jsonField(createDocument("Doc poison", "alice"), "id");
+        documentProcessingFailureRepository.recordFailures(
+                DocumentStatus.DRAFT,
+                List.of(new DocumentFailure(UUID.fromString(id), "ERROR", "Unexpected error")),
+                new DocumentRetryPolicy(1, Duration.ofSeconds(1), Duration.ofMinutes(1))
+        );
+
+        mockMvc.perform(get("/api/v1/documents/dead-letters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].documentId", is(id)))
+                .andExpect(jsonPath("$[0].attempts", is(1)))
+                .andExpect(jsonPath("$[0].lastResult", is("ERROR")));
+
+        mockMvc.perform(post("/api/v1/documents/dead-letters/{id}/requeue", id))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/documents/dead-letters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
     @Test
     void batchApproveReturnsPartialResults() throws Exception {
         String submittedId = jsonField(createDocument("Doc submitted", "alice"), "id");
@@ -187,12 +402,107 @@ class DocumentApiIntegrationTest {
                 .andExpect(jsonPath("$.items", hasSize(2)))
                 .andExpect(jsonPath("$.items[0].title", is("A title")))
                 .andExpect(jsonPath("$.items[1].title", is("B title")))
+                .andExpect(jsonPath("$.items[0].content").doesNotExist())
                 .andExpect(jsonPath("$.page", is(0)))
                 .andExpect(jsonPath("$.size", is(2)))
                 .andExpect(jsonPath("$.totalElements", is(3)))
                 .andExpect(jsonPath("$.totalPages", is(2)));
     }
 
+    @Test
+    void batchGetContinuesFromNextCursorWithoutCounting() throws Exception {
+        String idB = jsonField(createDocument("Keyset B", "alice"), "id");
+        String idA = jsonField(createDocument("Keyset A", "alice"), "id");
+        String idC = jsonField(createDocument("Keyset C", "alice"), "id");
+        String body = """
+                {
+                  "ids":["%s","%s","%s"],
+                  "size":2,
+                  "sortBy":"title",
+                  "sortDir":"ASC"%s
+                }
+                """;
+
+        String firstPage = mockMvc.perform(post("/api/v1/documents/_batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.formatted(idB, idA, idC, "")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title", is("Keyset A")))
+                .andExpect(jsonPath("$.items[1].title", is("Keyset B")))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        mockMvc.perform(post("/api/v1/documents/_batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.formatted(idB, idA, idC, ",\n  \"cursor\":\"" + jsonField(firstPage, "nextCursor") + "\"")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(idC)))
+                .andExpect(jsonPath("$.totalElements", nullValue()))
+                .andExpect(jsonPath("$.page", nullValue()))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void searchRejectsCursorIssuedForAnotherSortOrder() throws Exception {
+        createDocument("Cursor one", "cursor-author");
+        createDocument("Cursor two", "cursor-author");
+
+        String firstPage = mockMvc.perform(get("/api/v1/documents/search")
+                        .param("author", "cursor-author")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        mockMvc.perform(get("/api/v1/documents/search")
+                        .param("author", "cursor-author")
+                        .param("size", "1")
+                        .param("sortBy", "title")
+                        .param("cursor", jsonField(firstPage, "nextCursor")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchReportsCountModeAndSkipsTotalsWhenCountIsNone() throws Exception {
+        createDocument("Count one", "count-author");
+        createDocument("Count two", "count-author");
+        createDocument("Count three", "count-author");
+
+        mockMvc.perform(get("/api/v1/documents/search")
+                        .param("author", "count-author")
+                        .param("size", "2")
+                        .param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.totalElements", nullValue()))
+                .andExpect(jsonPath("$.totalPages", nullValue()))
+                .andExpect(jsonPath("$.countMode", is("NONE")));
+
+        mockMvc.perform(get("/api/v1/documents/search")
+                        .param("author", "count-author")
+                        .param("size", "2")
+                        .param("count", "estimate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.totalElements").isNumber())
+                .andExpect(jsonPath("$.countMode", is("ESTIMATE")));
+
+        mockMvc.perform(get("/api/v1/documents/search")
+                        .param("author", "count-author")
+                        .param("page", "1")
+                        .param("size", "2")
+                        .param("count", "estimate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.totalElements", is(3)))
+                .andExpect(jsonPath("$.countMode", is("ESTIMATE")));
+    }
+
     @Test
     void searchFiltersByStatusAuthorAndCreatedPeriod() throws Exception {
         String aliceDraftId = jsonField(createDocument("Search draft", "alice"), "id");
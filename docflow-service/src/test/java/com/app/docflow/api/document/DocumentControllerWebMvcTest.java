@@ -7,33 +7,55 @@ import com.app.docflow.api.error.GlobalExceptionHandler;
 import com.app.docflow.application.document.command.DocumentCommandService;
 import com.app.docflow.application.document.command.model.CreateDocumentCommand;
 import com.app.docflow.application.document.concurrency.ConcurrencyApprovalCheckService;
+import com.app.docflow.application.document.failure.DocumentProcessingFailureService;
+import com.app.docflow.application.document.importing.DocumentImportFormat;
+import com.app.docflow.application.document.importing.DocumentImportService;
 import com.app.docflow.application.document.query.DocumentQueryService;
+import com.app.docflow.application.document.query.StatusAwaitLimitExceededException;
+import com.app.docflow.application.document.query.model.DocumentDetailsView;
+import com.app.docflow.domain.document.CountMode;
 import com.app.docflow.domain.document.Document;
+import com.app.docflow.domain.document.DocumentCursor;
 import com.app.docflow.domain.document.DocumentPage;
 import com.app.docflow.domain.document.DocumentSearchCriteria;
 import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentSummary;
 import com.app.docflow.domain.document.PageQuery;
 import com.app.docflow.domain.document.SortDirection;
+import jakarta.servlet.AsyncListener;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DocumentController.class)
@@ -52,6 +74,12 @@ class DocumentControllerWebMvcTest {
     @MockitoBean
     private ConcurrencyApprovalCheckService concurrencyApprovalCheckService;
 
+    @MockitoBean
+    private DocumentProcessingFailureService documentProcessingFailureService;
+
+    @MockitoBean
+    private DocumentImportService documentImportService;
+
     @MockitoBean
     private DocumentApiMapper mapper;
 
@@ -76,10 +104,42 @@ class DocumentControllerWebMvcTest {
                 .andExpect(jsonPath("$.status").value("DRAFT"));
     }
 
+    @Test
+    void batchCreateRejectsInvalidItemWithoutCallingService() throws Exception {
+        mockMvc.perform(post("/api/v1/documents/_batch-create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"documents\":[{\"title\":\"Doc\",\"author\":\"alice\"},{\"title\":\"\",\"author\":\"bob\"}]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(documentCommandService, never()).createBatch(any());
+    }
+
+    @Test
+    void importPassesRequestBodyStreamAndFormatToService() throws Exception {
+        mockMvc.perform(post("/api/v1/documents/_import")
+                        .param("format", "CSV")
+                        .contentType("text/csv")
+                        .content("title,author\nDoc,alice\n"))
+                .andExpect(status().isOk());
+
+        verify(documentImportService).importDocuments(any(), eq(DocumentImportFormat.CSV), eq(0L));
+    }
+
+    @Test
+    void importResumesAfterGivenRecord() throws Exception {
+        mockMvc.perform(post("/api/v1/documents/_import")
+                        .param("afterRecord", "42")
+                        .contentType("application/x-ndjson")
+                        .content("{\"title\":\"Doc\",\"author\":\"alice\"}\n"))
+                .andExpect(status().isOk());
+
+        verify(documentImportService).importDocuments(any(), eq(DocumentImportFormat.NDJSON), eq(42L));
+    }
+
     @Test
     void batchGetUsesDefaultPagingAndSortingWhenFieldsAreNull() throws Exception {
-        when(documentQueryService.getByIds(any(), any())).thenReturn(new DocumentPage<>(List.of(), 0, 0, 20, 0));
-        when(mapper.toPageResponse(any())).thenReturn(new PageResponse<>(List.of(), 0, 0, 20, 0));
+        when(documentQueryService.getSummariesByIds(any(), any())).thenReturn(new DocumentPage<>(List.of(), 0, 0, 20, 0));
+        when(mapper.toSummaryPageResponse(any())).thenReturn(new PageResponse<>(List.of(), 0L, 0, 20, 0, false, null, CountMode.EXACT));
 
         mockMvc.perform(post("/api/v1/documents/_batch-get")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -87,7 +147,7 @@ class DocumentControllerWebMvcTest {
                 .andExpect(status().isOk());
 
         ArgumentCaptor<PageQuery> pageQueryCaptor = ArgumentCaptor.forClass(PageQuery.class);
-        verify(documentQueryService).getByIds(any(), pageQueryCaptor.capture());
+        verify(documentQueryService).getSummariesByIds(any(), pageQueryCaptor.capture());
         PageQuery pageQuery = pageQueryCaptor.getValue();
         assertThat(pageQuery.page()).isEqualTo(0);
         assertThat(pageQuery.size()).isEqualTo(20);
@@ -95,10 +155,28 @@ class DocumentControllerWebMvcTest {
         assertThat(pageQuery.sortDirection()).isEqualTo(SortDirection.DESC);
     }
 
+    @Test
+    void searchLoadsFullDocumentsOnlyWhenContentFieldRequested() throws Exception {
+        when(documentQueryService.search(any(), any())).thenReturn(new DocumentPage<>(List.of(), 0, 0, 20, 0));
+        when(mapper.toPageResponse(any())).thenReturn(new PageResponse<>(List.of(), 0L, 0, 20, 0, false, null, CountMode.EXACT));
+
+        mockMvc.perform(get("/api/v1/documents/search").param("fields", "content"))
+                .andExpect(status().isOk());
+
+        verify(documentQueryService).search(any(), any());
+        verify(documentQueryService, never()).searchSummaries(any(), any());
+    }
+
+    @Test
+    void searchRejectsUnsupportedFieldsValue() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/search").param("fields", "content,secret"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void searchMapsRequestParamsToCriteriaAndPageQuery() throws Exception {
-        when(documentQueryService.search(any(), any())).thenReturn(new DocumentPage<>(List.of(), 0, 0, 10, 0));
-        when(mapper.toPageResponse(any())).thenReturn(new PageResponse<>(List.of(), 0, 0, 10, 0));
+        when(documentQueryService.searchSummaries(any(), any())).thenReturn(new DocumentPage<>(List.of(), 0, 0, 10, 0));
+        when(mapper.toSummaryPageResponse(any())).thenReturn(new PageResponse<>(List.of(), 0L, 0, 10, 0, false, null, CountMode.EXACT));
 
         mockMvc.perform(get("/api/v1/documents/search")
                         .param("status", "SUBMITTED")
@@ -113,7 +191,7 @@ class DocumentControllerWebMvcTest {
 
         ArgumentCaptor<DocumentSearchCriteria> criteriaCaptor = ArgumentCaptor.forClass(DocumentSearchCriteria.class);
         ArgumentCaptor<PageQuery> pageQueryCaptor = ArgumentCaptor.forClass(PageQuery.class);
-        verify(documentQueryService).search(criteriaCaptor.capture(), pageQueryCaptor.capture());
+        verify(documentQueryService).searchSummaries(criteriaCaptor.capture(), pageQueryCaptor.capture());
 
         DocumentSearchCriteria criteria = criteriaCaptor.getValue();
         assertThat(criteria.status()).isEqualTo(DocumentStatus.SUBMITTED);
@@ -128,6 +206,170 @@ class DocumentControllerWebMvcTest {
         assertThat(pageQuery.sortDirection()).isEqualTo(SortDirection.ASC);
     }
 
+    @Test
+    void searchDecodesCursorIntoPageQuery() throws Exception {
+        UUID lastId = UUID.randomUUID();
+        String cursor = DocumentCursorCodec.encode(new DocumentCursor("title", SortDirection.ASC, "Title: B", lastId));
+        when(documentQueryService.searchSummaries(any(), any())).thenReturn(new DocumentPage<>(List.of(), null, null, 10, null, false, null, CountMode.NONE));
+        when(mapper.toSummaryPageResponse(any())).thenReturn(new PageResponse<>(List.of(), null, null, 10, null, false, null, CountMode.NONE));
+
+        mockMvc.perform(get("/api/v1/documents/search")
+                        .param("size", "10")
+                        .param("sortBy", "title")
+                        .param("sortDir", "asc")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<PageQuery> pageQueryCaptor = ArgumentCaptor.forClass(PageQuery.class);
+        verify(documentQueryService).searchSummaries(any(), pageQueryCaptor.capture());
+        assertThat(pageQueryCaptor.getValue().cursor())
+                .isEqualTo(new DocumentCursor("title", SortDirection.ASC, "Title: B", lastId));
+    }
+
+    @Test
+    void searchPassesRequestedCountModeAndDefaultsToNoneForCursorPages() throws Exception {
+        String cursor = DocumentCursorCodec.encode(new DocumentCursor("createdAt", SortDirection.DESC, "2026-02-23T10:00:00Z", UUID.randomUUID()));
+        when(documentQueryService.searchSummaries(any(), any())).thenReturn(new DocumentPage<>(List.of(), 0, 0, 20, 0));
+        when(mapper.toSummaryPageResponse(any())).thenReturn(new PageResponse<>(List.of(), 0L, 0, 20, 0, false, null, CountMode.EXACT));
+
+        mockMvc.perform(get("/api/v1/documents/search").param("count", "estimate"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/documents/search").param("cursor", cursor))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<PageQuery> pageQueryCaptor = ArgumentCaptor.forClass(PageQuery.class);
+        verify(documentQueryService, times(2)).searchSummaries(any(), pageQueryCaptor.capture());
+        assertThat(pageQueryCaptor.getAllValues()).extracting(PageQuery::countMode)
+                .containsExactly(CountMode.ESTIMATE, CountMode.NONE);
+    }
+
+    @Test
+    void searchRejectsUnknownCountMode() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/search").param("count", "approximate"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void awaitStatusCompletesAsynchronouslyWhenStatusIsReached() throws Exception {
+        UUID id = UUID.randomUUID();
+        CompletableFuture<DocumentStatus> reached = new CompletableFuture<>();
+        when(documentQueryService.awaitStatus(id, DocumentStatus.APPROVED, Duration.ofSeconds(5))).thenReturn(reached);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/documents/{id}/await", id)
+                        .param("status", "APPROVED")
+                        .param("timeout", "5s"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        reached.complete(DocumentStatus.APPROVED);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id.toString()))
+                .andExpect(jsonPath("$.status").value("APPROVED"))
+                .andExpect(jsonPath("$.reached").value(true));
+    }
+
+    @Test
+    void awaitStatusReturnsCurrentStatusOnTimeoutAndReleasesWaiter() throws Exception {
+        UUID id = UUID.randomUUID();
+        CompletableFuture<DocumentStatus> reached = new CompletableFuture<>();
+        when(documentQueryService.awaitStatus(id, DocumentStatus.APPROVED, Duration.ofSeconds(30))).thenReturn(reached);
+        when(documentQueryService.getDocumentStatus(id)).thenReturn(DocumentStatus.SUBMITTED);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/documents/{id}/await", id).param("status", "APPROVED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        for (AsyncListener listener : ((MockAsyncContext) result.getRequest().getAsyncContext()).getListeners()) {
+            listener.onTimeout(null);
+        }
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUBMITTED"))
+                .andExpect(jsonPath("$.reached").value(false));
+
+        assertThat(reached).isCancelled();
+        verify(documentQueryService, never()).getDocument(any());
+    }
+
+    @Test
+    void awaitStatusReturnsServiceUnavailableWhenWaiterLimitIsReached() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(documentQueryService.awaitStatus(eq(id), eq(DocumentStatus.APPROVED), any()))
+                .thenThrow(new StatusAwaitLimitExceededException(10000));
+
+        mockMvc.perform(get("/api/v1/documents/{id}/await", id).param("status", "APPROVED"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_WAITERS"));
+    }
+
+    @Test
+    void getOneReturnsVersionETag() throws Exception {
+        UUID id = UUID.randomUUID();
+        Instant now = Instant.parse("2026-02-23T10:00:00Z");
+        Document document = Document.restore(id, 4L, "DOC-00000001", "Title", "alice", "content", DocumentStatus.APPROVED, now, now);
+        when(documentQueryService.getDocument(id)).thenReturn(new DocumentDetailsView(document, List.of(), null));
+
+        mockMvc.perform(get("/api/v1/documents/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        verify(documentQueryService, never()).getDocumentVersion(any());
+    }
+
+    @Test
+    void getOneReturnsNotModifiedWithoutLoadingDetailsWhenVersionMatches() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(documentQueryService.getDocumentVersion(id)).thenReturn(4L);
+
+        mockMvc.perform(get("/api/v1/documents/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(content().string(""));
+
+        verify(documentQueryService, never()).getDocument(any());
+        verify(mapper, never()).toDetailsResponse(any());
+    }
+
+    @Test
+    void searchReturnsNotModifiedWithoutMappingWhenPageETagMatches() throws Exception {
+        Instant now = Instant.parse("2026-02-23T10:00:00Z");
+        DocumentSummary summary = new DocumentSummary(UUID.randomUUID(), 2L, "DOC-00000001", "Title", "alice",
+                DocumentStatus.SUBMITTED, now, now);
+        when(documentQueryService.searchSummaries(any(), any())).thenReturn(new DocumentPage<>(List.of(summary), 1, 0, 20, 1));
+        when(mapper.toSummaryPageResponse(any())).thenReturn(new PageResponse<>(List.of(), 1L, 0, 20, 1, false, null, CountMode.EXACT));
+
+        String eTag = mockMvc.perform(get("/api/v1/documents/search"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/documents/search").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        verify(mapper, times(1)).toSummaryPageResponse(any());
+    }
+
+    @Test
+    void searchRejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/search").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchRejectsUnsupportedSortFieldInsteadOfFallingBack() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/search").param("sortBy", "foo"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value(startsWith("sortBy must be one of")));
+
+        verify(documentQueryService, never()).searchSummaries(any(), any());
+    }
+
     @Test
     void createValidationReturnsUnifiedErrorFormat() throws Exception {
         mockMvc.perform(post("/api/v1/documents")
@@ -0,0 +1,44 @@
+package com.app.docflow.api.document;
+
+import com.app.docflow.domain.document.DocumentCursor;
+import com.app.docflow.domain.document.SortDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentCursorCodecTest {
+
+    @Test
+    void encodedCursorIsUrlSafeAndDecodesBack() {
+        DocumentCursor cursor = new DocumentCursor("title", SortDirection.ASC, "Quarterly: report / v2?", UUID.randomUUID());
+
+        String encoded = DocumentCursorCodec.encode(cursor);
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(DocumentCursorCodec.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void nullOrBlankCursorMeansFirstPage() {
+        assertThat(DocumentCursorCodec.encode(null)).isNull();
+        assertThat(DocumentCursorCodec.decode(null)).isNull();
+        assertThat(DocumentCursorCodec.decode(" ")).isNull();
+    }
+
+    @Test
+    void decodeRejectsTamperedCursor() {
+        String tampered = Base64.getUrlEncoder().encodeToString("createdAt:SIDEWAYS:nope".getBytes());
+
+        assertThatThrownBy(() -> DocumentCursorCodec.decode(tampered))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> DocumentCursorCodec.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+}
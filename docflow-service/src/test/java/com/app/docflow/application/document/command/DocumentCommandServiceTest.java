@@ -4,15 +4,21 @@ import com.app.docflow.application.document.command.model.BatchOperationItemResu
 import com.app.docflow.application.document.command.model.BatchOperationItemStatus;
 import com.app.docflow.application.document.command.model.BatchOperationResult;
 import com.app.docflow.application.document.command.model.CreateDocumentCommand;
+import com.app.docflow.application.document.query.DocumentDetailsCache;
+import com.app.docflow.application.document.query.DocumentStatusWaiters;
+import com.app.docflow.application.support.BatchItemExecutor;
 import com.app.docflow.application.support.RequiresNewTransactionRunner;
+import com.app.docflow.config.DocflowProperties;
 import com.app.docflow.domain.document.ApprovalRegistryNumberGenerator;
 import com.app.docflow.domain.document.ApprovalRegistryRepository;
 import com.app.docflow.domain.document.ApprovalRegistryWriteException;
 import com.app.docflow.domain.document.Document;
+import com.app.docflow.domain.document.DocumentConflictException;
 import com.app.docflow.domain.document.DocumentHistoryRepository;
 import com.app.docflow.domain.document.DocumentNumberGenerator;
 import com.app.docflow.domain.document.DocumentRepository;
 import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusNotifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +26,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -32,11 +39,16 @@ import java.util.function.Function;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,12 +73,23 @@ class DocumentCommandServiceTest {
     @Mock
     private RequiresNewTransactionRunner requiresNewTransactionRunner;
 
+    @Mock
+    private DocumentStatusNotifier documentStatusNotifier;
+
+    @Mock
+    private DocumentDetailsCache documentDetailsCache;
+
+    @Mock
+    private DocumentStatusWaiters documentStatusWaiters;
+
     private DocumentCommandService service;
+    private DocflowProperties properties;
     private final List<TransactionStatus> transactionStatuses = new ArrayList<>();
 
     @BeforeEach
     void setUp() {
         Clock fixedClock = Clock.fixed(Instant.parse("2026-02-23T10:00:00Z"), ZoneOffset.UTC);
+        properties = new DocflowProperties();
 
         service = new DocumentCommandService(
                 documentRepository,
@@ -75,7 +98,12 @@ class DocumentCommandServiceTest {
                 documentNumberGenerator,
                 approvalRegistryNumberGenerator,
                 fixedClock,
-                requiresNewTransactionRunner
+                requiresNewTransactionRunner,
+                BatchItemExecutor.sequential(),
+                properties,
+                documentStatusNotifier,
+                documentDetailsCache,
+                documentStatusWaiters
         );
 
         transactionStatuses.clear();
@@ -83,7 +111,7 @@ class DocumentCommandServiceTest {
         lenient().doAnswer(invocation -> {
             @SuppressWarnings("unchecked")
             Function<TransactionStatus, Object> callback = (Function<TransactionStatus, Object>) invocation.getArgument(0);
-            TransactionStatus txStatus = mock(TransactionStatus.class);
+            TransactionStatus txStatus = spy(new SimpleTransactionStatus());
             transactionStatuses.add(txStatus);
             return callback.apply(txStatus);
         }).when(requiresNewTransactionRunner).run(any());
@@ -102,6 +130,50 @@ class DocumentCommandServiceTest {
         assertThat(result.getTitle()).isEqualTo("Title");
         assertThat(result.getAuthor()).isEqualTo("alice");
         verify(documentHistoryRepository).save(any());
+        verify(documentStatusNotifier).statusChanged(DocumentStatus.DRAFT);
+    }
+
+    @Test
+    void createBatchReservesNumbersOnceAndInsertsDocumentsWithHistoryInBulk() {
+        List<CreateDocumentCommand> commands = List.of(
+                new CreateDocumentCommand("First", "alice", "body"),
+                new CreateDocumentCommand("Second", "bob", null)
+        );
+        when(documentNumberGenerator.nextDocumentNumbers(2)).thenReturn(List.of("DOC-00000051", "DOC-00000052"));
+
+        BatchOperationResult result = service.createBatch(commands);
+
+        assertThat(result.results()).extracting(BatchOperationItemResult::status)
+                .containsExactly(BatchOperationItemStatus.SUCCESS, BatchOperationItemStatus.SUCCESS);
+        assertThat(transactionStatuses).hasSize(1);
+        verify(documentRepository).insertAll(argThat(documents -> documents.size() == 2
+                && documents.get(0).getNumber().equals("DOC-00000051")
+                && documents.get(1).getTitle().equals("Second")));
+        verify(documentHistoryRepository).saveAll(argThat(entries -> entries.size() == 2
+                && entries.get(0).getDocumentId().equals(result.results().get(0).documentId())));
+        verify(documentRepository, never()).save(any(Document.class));
+        verify(documentStatusNotifier).statusChanged(DocumentStatus.DRAFT);
+    }
+
+    @Test
+    void createBatchFallsBackToPerItemInsertsWhenBulkInsertFails() {
+        List<CreateDocumentCommand> commands = List.of(
+                new CreateDocumentCommand("First", "alice", "body"),
+                new CreateDocumentCommand("Second", "bob", "body")
+        );
+        when(documentNumberGenerator.nextDocumentNumbers(2)).thenReturn(List.of("DOC-00000001", "DOC-00000002"));
+        doThrow(new IllegalStateException("bulk failed")).when(documentRepository).insertAll(argThat(documents -> documents.size() == 2));
+        lenient().doThrow(new IllegalStateException("duplicate number"))
+                .when(documentRepository).insertAll(argThat(documents -> documents.size() == 1
+                        && documents.get(0).getNumber().equals("DOC-00000002")));
+
+        BatchOperationResult result = service.createBatch(commands);
+
+        assertThat(result.results()).extracting(BatchOperationItemResult::status)
+                .containsExactly(BatchOperationItemStatus.SUCCESS, BatchOperationItemStatus.ERROR);
+        assertThat(transactionStatuses).hasSize(3);
+        verify(transactionStatuses.get(1), never()).setRollbackOnly();
+        verify(transactionStatuses.get(2)).setRollbackOnly();
     }
 
     @Test
@@ -112,7 +184,7 @@ class DocumentCommandServiceTest {
         Document draftDocument = document(existingId, DocumentStatus.DRAFT);
 
         when(documentRepository.findAllByIds(List.of(existingId, missingId))).thenReturn(List.of(draftDocument));
-        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(documentRepository.updateStatus(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         BatchOperationResult result = service.submitBatch(ids);
 
@@ -122,7 +194,8 @@ class DocumentCommandServiceTest {
         assertThat(result.results().get(1).message()).contains("Duplicate");
         assertThat(result.results().get(2).status()).isEqualTo(BatchOperationItemStatus.NOT_FOUND);
         verify(documentRepository).findAllByIds(List.of(existingId, missingId));
-        verify(documentRepository).save(any(Document.class));
+        verify(documentRepository).updateStatus(any(Document.class));
+        verify(documentStatusNotifier).statusChanged(DocumentStatus.SUBMITTED, List.of(existingId));
     }
 
     @Test
@@ -131,8 +204,8 @@ class DocumentCommandServiceTest {
         Document submittedDocument = document(id, DocumentStatus.SUBMITTED);
 
         when(documentRepository.findAllByIds(List.of(id))).thenReturn(List.of(submittedDocument));
-        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(approvalRegistryNumberGenerator.nextRegistryNumber()).thenReturn("APR-00000001");
+        when(documentRepository.updateStatus(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(approvalRegistryNumberGenerator.nextRegistryNumbers(1)).thenReturn(List.of("APR-00000001"));
         doThrow(new ApprovalRegistryWriteException("Approval registry write failed", new RuntimeException("forced")))
                 .when(approvalRegistryRepository).save(any());
 
@@ -143,13 +216,178 @@ class DocumentCommandServiceTest {
         verify(transactionStatuses.get(0)).setRollbackOnly();
     }
 
+    @Test
+    void submitBatchInChunkModeCommitsWholeChunkInSingleTransaction() {
+        properties.getProcessing().setChunkSize(10);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+
+        when(documentRepository.findAllByIds(List.of(id1, id2, missingId)))
+                .thenReturn(List.of(document(id1, DocumentStatus.DRAFT), document(id2, DocumentStatus.DRAFT)));
+        when(documentRepository.updateStatus(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchOperationResult result = service.submitBatch(List.of(id1, id2, missingId, id1));
+
+        assertThat(result.results()).extracting(BatchOperationItemResult::status).containsExactly(
+                BatchOperationItemStatus.SUCCESS,
+                BatchOperationItemStatus.SUCCESS,
+                BatchOperationItemStatus.NOT_FOUND,
+                BatchOperationItemStatus.CONFLICT
+        );
+        assertThat(transactionStatuses).hasSize(1);
+        verify(transactionStatuses.get(0), never()).setRollbackOnly();
+    }
+
+    @Test
+    void approveBatchInChunkModeFallsBackToPerItemTransactionsWhenChunkFails() {
+        properties.getProcessing().setChunkSize(10);
+        UUID okId = UUID.randomUUID();
+        UUID failingId = UUID.randomUUID();
+
+        when(documentRepository.findAllByIds(List.of(okId, failingId)))
+                .thenReturn(List.of(document(okId, DocumentStatus.SUBMITTED), document(failingId, DocumentStatus.SUBMITTED)));
+        when(documentRepository.updateStatus(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(approvalRegistryNumberGenerator.nextRegistryNumbers(2)).thenReturn(List.of("APR-00000001", "APR-00000002"));
+        lenient().doThrow(new ApprovalRegistryWriteException("Approval registry write failed", new RuntimeException("forced")))
+                .when(approvalRegistryRepository).save(argThat(record -> record.getDocumentId().equals(failingId)));
+
+        BatchOperationResult result = service.approveBatch(List.of(okId, failingId));
+
+        assertThat(result.results()).extracting(BatchOperationItemResult::status).containsExactly(
+                BatchOperationItemStatus.SUCCESS,
+                BatchOperationItemStatus.REGISTRY_ERROR
+        );
+        assertThat(transactionStatuses).hasSize(3);
+        verify(transactionStatuses.get(0)).setRollbackOnly();
+        verify(transactionStatuses.get(1), never()).setRollbackOnly();
+        verify(transactionStatuses.get(2), times(1)).setRollbackOnly();
+    }
+
+    @Test
+    void approveBatchReservesRegistryNumbersOnceAndAssignsThemInRequestOrder() {
+        UUID firstId = UUID.randomUUID();
+        UUID draftId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+
+        when(documentRepository.findAllByIds(List.of(firstId, draftId, secondId))).thenReturn(List.of(
+                document(secondId, DocumentStatus.SUBMITTED),
+                document(draftId, DocumentStatus.DRAFT),
+                document(firstId, DocumentStatus.SUBMITTED)
+        ));
+        when(documentRepository.updateStatus(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(approvalRegistryNumberGenerator.nextRegistryNumbers(2)).thenReturn(List.of("APR-00000007", "APR-00000008"));
+
+        BatchOperationResult result = service.approveBatch(List.of(firstId, draftId, secondId, firstId));
+
+        assertThat(result.results()).extracting(BatchOperationItemResult::status).containsExactly(
+                BatchOperationItemStatus.SUCCESS,
+                BatchOperationItemStatus.CONFLICT,
+                BatchOperationItemStatus.SUCCESS,
+                BatchOperationItemStatus.CONFLICT
+        );
+        verify(approvalRegistryRepository).save(argThat(record ->
+                record.getDocumentId().equals(firstId) && record.getRegistryNumber().equals("APR-00000007")));
+        verify(approvalRegistryRepository).save(argThat(record ->
+                record.getDocumentId().equals(secondId) && record.getRegistryNumber().equals("APR-00000008")));
+        verify(approvalRegistryNumberGenerator, never()).nextRegistryNumber();
+    }
+
+    @Test
+    void submitBatchInBulkUpdatesDraftsInSingleStatementAndExplainsRejectedIds() {
+        UUID submittedId = UUID.randomUUID();
+        UUID approvedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        List<UUID> uniqueIds = List.of(submittedId, approvedId, missingId);
+
+        when(documentRepository.submitDrafts(eq(uniqueIds), any(Instant.class))).thenReturn(List.of(submittedId));
+        when(documentRepository.findAllByIds(List.of(approvedId, missingId)))
+                .thenReturn(List.of(document(approvedId, DocumentStatus.APPROVED)));
+
+        BatchOperationResult result = service.submitBatchInBulk(List.of(submittedId, approvedId, missingId, submittedId));
+
+        assertThat(result.results()).extracting(BatchOperationItemResult::status).containsExactly(
+                BatchOperationItemStatus.SUCCESS,
+                BatchOperationItemStatus.CONFLICT,
+                BatchOperationItemStatus.NOT_FOUND,
+                BatchOperationItemStatus.CONFLICT
+        );
+        assertThat(result.results().get(3).message()).contains("Duplicate");
+        assertThat(transactionStatuses).hasSize(1);
+        verify(documentHistoryRepository).saveAll(argThat(entries ->
+                entries.size() == 1 && entries.get(0).getDocumentId().equals(submittedId)));
+        verify(documentRepository, never()).updateStatus(any(Document.class));
+        verify(documentStatusNotifier).statusChanged(DocumentStatus.SUBMITTED, List.of(submittedId));
+        verify(documentDetailsCache).invalidate(submittedId);
+        verify(documentDetailsCache, never()).invalidate(approvedId);
+        verify(documentStatusWaiters).statusChanged(submittedId, DocumentStatus.SUBMITTED);
+        verify(documentStatusWaiters, never()).statusChanged(eq(approvedId), any());
+    }
+
+    @Test
+    void submitBatchInBulkFallsBackToPerItemSubmitWhenBulkStatementFails() {
+        UUID id = UUID.randomUUID();
+
+        when(documentRepository.submitDrafts(eq(List.of(id)), any(Instant.class)))
+                .thenThrow(new IllegalStateException("bulk failed"));
+        when(documentRepository.findAllByIds(List.of(id))).thenReturn(List.of(document(id, DocumentStatus.DRAFT)));
+        when(documentRepository.updateStatus(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchOperationResult result = service.submitBatchInBulk(List.of(id));
+
+        assertThat(result.results()).extracting(BatchOperationItemResult::status)
+                .containsExactly(BatchOperationItemStatus.SUCCESS);
+        verify(documentRepository).updateStatus(any(Document.class));
+    }
+
+    @Test
+    void approveBatchInSingleStatementsPassesExpectedVersionAndMapsFailures() {
+        UUID approvedId = UUID.randomUUID();
+        UUID staleId = UUID.randomUUID();
+        UUID registryFailureId = UUID.randomUUID();
+        UUID draftId = UUID.randomUUID();
+
+        when(documentRepository.findAllByIds(List.of(approvedId, staleId, registryFailureId, draftId))).thenReturn(List.of(
+                document(approvedId, DocumentStatus.SUBMITTED),
+                document(staleId, DocumentStatus.SUBMITTED),
+                document(registryFailureId, DocumentStatus.SUBMITTED),
+                document(draftId, DocumentStatus.DRAFT)
+        ));
+        when(approvalRegistryNumberGenerator.nextRegistryNumbers(3)).thenReturn(List.of("APR-00000001", "APR-00000002", "APR-00000003"));
+        when(documentRepository.approveAndRegister(argThat(document -> document.getId().equals(approvedId)), eq("APR-00000001")))
+                .thenReturn(2L);
+        lenient().doThrow(new DocumentConflictException("Concurrent modification conflict", null))
+                .when(documentRepository).approveAndRegister(argThat(document -> document.getId().equals(staleId)), eq("APR-00000002"));
+        lenient().doThrow(new ApprovalRegistryWriteException("Approval registry write failed", null))
+                .when(documentRepository).approveAndRegister(argThat(document -> document.getId().equals(registryFailureId)), eq("APR-00000003"));
+
+        BatchOperationResult result = service.approveBatchInSingleStatements(List.of(approvedId, staleId, registryFailureId, draftId));
+
+        assertThat(result.results()).extracting(BatchOperationItemResult::status).containsExactly(
+                BatchOperationItemStatus.SUCCESS,
+                BatchOperationItemStatus.CONFLICT,
+                BatchOperationItemStatus.REGISTRY_ERROR,
+                BatchOperationItemStatus.CONFLICT
+        );
+        verify(documentRepository).approveAndRegister(argThat(document -> document.getId().equals(approvedId)
+                && document.getVersion() == 1L && document.getStatus() == DocumentStatus.APPROVED), eq("APR-00000001"));
+        verify(documentRepository, never()).approveAndRegister(argThat(document -> document.getId().equals(draftId)), anyString());
+        verify(approvalRegistryNumberGenerator, never()).nextRegistryNumber();
+        verify(transactionStatuses.get(2)).setRollbackOnly();
+        verify(documentRepository, never()).updateStatus(any(Document.class));
+        verify(documentDetailsCache).invalidate(approvedId, 2L);
+        verify(documentDetailsCache, never()).invalidate(eq(staleId), anyLong());
+        verify(documentStatusWaiters).statusChanged(approvedId, DocumentStatus.APPROVED);
+        verify(documentStatusWaiters, never()).statusChanged(eq(staleId), any());
+    }
+
     @Test
     void approveOneForConcurrencyCheckLoadsDocumentById() {
         UUID id = UUID.randomUUID();
         Document submittedDocument = document(id, DocumentStatus.SUBMITTED);
 
         when(documentRepository.findById(id)).thenReturn(java.util.Optional.of(submittedDocument));
-        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(documentRepository.updateStatus(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(approvalRegistryNumberGenerator.nextRegistryNumber()).thenReturn("APR-00000001");
 
         BatchOperationItemResult result = service.approveOneForConcurrencyCheck(id);
@@ -0,0 +1,244 @@
+package com.app.docflow.application.document.importing;
+
+import com.app.docflow.application.document.importing.model.DocumentImportRejection;
+import com.app.docflow.application.document.importing.model.DocumentImportResult;
+import com.app.docflow.application.document.importing.model.DocumentImportStatus;
+import com.app.docflow.application.support.RequiresNewTransactionRunner;
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.Document;
+import com.app.docflow.domain.document.DocumentBulkLoader;
+import com.app.docflow.domain.document.DocumentNumberGenerator;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusNotifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentImportServiceTest {
+
+    @Mock
+    private DocumentBulkLoader documentBulkLoader;
+
+    @Mock
+    private DocumentNumberGenerator documentNumberGenerator;
+
+    @Mock
+    private RequiresNewTransactionRunner requiresNewTransactionRunner;
+
+    @Mock
+    private DocumentStatusNotifier documentStatusNotifier;
+
+    private DocflowProperties properties;
+    private DocumentImportService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DocflowProperties();
+        service = new DocumentImportService(
+                documentBulkLoader,
+                documentNumberGenerator,
+                requiresNewTransactionRunner,
+                documentStatusNotifier,
+                new ObjectMapper(),
+                Clock.fixed(Instant.parse("2026-02-23T10:00:00Z"), ZoneOffset.UTC),
+                properties
+        );
+
+        lenient().doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            Function<TransactionStatus, Object> callback = (Function<TransactionStatus, Object>) invocation.getArgument(0);
+            return callback.apply(new SimpleTransactionStatus());
+        }).when(requiresNewTransactionRunner).run(any());
+        lenient().when(documentNumberGenerator.nextDocumentNumbers(anyInt())).thenAnswer(invocation -> IntStream
+                .rangeClosed(1, invocation.<Integer>getArgument(0))
+                .mapToObj("DOC-%08d"::formatted)
+                .toList());
+    }
+
+    @Test
+    void importsNdjsonInChunksAndReportsRejectedLines() {
+        properties.getBulkImport().setChunkSize(2);
+        String ndjson = """
+                {"title":"Doc 1","author":"alice","content":"body"}
+                {"title":"Doc 2","author":"bob"}
+
+                {"title":"","author":"bob"}
+                not json
+                {"title":"Doc 3","author":"carol"}
+                """;
+
+        DocumentImportResult result = service.importDocuments(stream(ndjson.getBytes(StandardCharsets.UTF_8)), DocumentImportFormat.NDJSON, 0);
+
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.rejections()).extracting(DocumentImportRejection::recordNumber).containsExactly(4L, 5L);
+        assertThat(result.rejections().get(0).reason()).isEqualTo("title must not be blank");
+
+        ArgumentCaptor<List<Document>> chunks = chunkCaptor();
+        verify(documentBulkLoader, times(2)).loadDrafts(chunks.capture());
+        assertThat(chunks.getAllValues().get(0)).extracting(Document::getTitle).containsExactly("Doc 1", "Doc 2");
+        assertThat(chunks.getAllValues().get(1)).extracting(Document::getStatus).containsExactly(DocumentStatus.DRAFT);
+        verify(documentStatusNotifier).statusChanged(DocumentStatus.DRAFT);
+    }
+
+    @Test
+    void importsGzippedCsvWithQuotedMultilineFields() throws IOException {
+        String csv = "author,title,content\r\n"
+                + "alice,\"Contract, \"\"A\"\"\",\"line 1\nline 2\"\r\n"
+                + "bob,Plain,\r\n";
+
+        DocumentImportResult result = service.importDocuments(stream(gzip(csv)), DocumentImportFormat.CSV, 0);
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.rejected()).isZero();
+
+        ArgumentCaptor<List<Document>> chunks = chunkCaptor();
+        verify(documentBulkLoader).loadDrafts(chunks.capture());
+        Document first = chunks.getValue().get(0);
+        assertThat(first.getTitle()).isEqualTo("Contract, \"A\"");
+        assertThat(first.getAuthor()).isEqualTo("alice");
+        assertThat(first.getContent()).isEqualTo("line 1\nline 2");
+        assertThat(chunks.getValue().get(1).getContent()).isNull();
+    }
+
+    @Test
+    void rejectsCsvWithoutRequiredColumns() {
+        assertThatThrownBy(() -> service.importDocuments(stream("name,body\nx,y\n".getBytes(StandardCharsets.UTF_8)), DocumentImportFormat.CSV, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CSV header must contain title and author columns");
+        verify(documentBulkLoader, never()).loadDrafts(any());
+    }
+
+    @Test
+    void limitsReportedRejectionsButCountsAll() {
+        properties.getBulkImport().setMaxReportedRejections(1);
+        String ndjson = "{\"author\":\"a\"}\n{\"author\":\"b\"}\n{\"author\":\"c\"}\n";
+
+        DocumentImportResult result = service.importDocuments(stream(ndjson.getBytes(StandardCharsets.UTF_8)), DocumentImportFormat.NDJSON, 0);
+
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.rejections()).hasSize(1);
+        verify(documentBulkLoader, never()).loadDrafts(any());
+        verify(documentStatusNotifier, never()).statusChanged(any());
+    }
+
+    @Test
+    void abortsOnChunkFailureAndReportsLastCommittedRecord() {
+        properties.getBulkImport().setChunkSize(2);
+        String ndjson = "{\"title\":\"Doc 1\",\"author\":\"a\"}\n"
+                + "{\"author\":\"b\"}\n"
+                + "{\"title\":\"Doc 3\",\"author\":\"c\"}\n"
+                + "{\"title\":\"Doc 4\",\"author\":\"d\"}\n"
+                + "{\"title\":\"Doc 5\",\"author\":\"e\"}\n";
+        doNothing().doThrow(new IllegalStateException("COPY failed")).when(documentBulkLoader).loadDrafts(any());
+
+        DocumentImportResult result = service.importDocuments(stream(ndjson.getBytes(StandardCharsets.UTF_8)), DocumentImportFormat.NDJSON, 0);
+
+        assertThat(result.status()).isEqualTo(DocumentImportStatus.ABORTED);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.lastCommittedRecordNumber()).isEqualTo(3);
+        assertThat(result.error()).isEqualTo("COPY failed");
+        verify(documentStatusNotifier).statusChanged(DocumentStatus.DRAFT);
+    }
+
+    @Test
+    void abortsWithNothingCommittedWhenFirstChunkFailsWithIllegalArgument() {
+        String csv = "title,author\nDoc 1,a\nDoc 2,b\n";
+        doThrow(new IllegalArgumentException("invalid COPY row")).when(documentBulkLoader).loadDrafts(any());
+
+        DocumentImportResult result = service.importDocuments(stream(csv.getBytes(StandardCharsets.UTF_8)), DocumentImportFormat.CSV, 0);
+
+        assertThat(result.status()).isEqualTo(DocumentImportStatus.ABORTED);
+        assertThat(result.imported()).isZero();
+        assertThat(result.lastCommittedRecordNumber()).isZero();
+        assertThat(result.error()).isEqualTo("invalid COPY row");
+        verify(documentStatusNotifier, never()).statusChanged(any());
+    }
+
+    @Test
+    void abortsOnCorruptGzipAfterCommittedChunks() throws IOException {
+        properties.getBulkImport().setChunkSize(1);
+        String ndjson = IntStream.rangeClosed(1, 2000)
+                .mapToObj(i -> "{\"title\":\"Doc " + i + "\",\"author\":\"author-" + i + "\",\"content\":\"" + UUID.randomUUID() + "\"}\n")
+                .collect(Collectors.joining());
+        byte[] gzipped = gzip(ndjson);
+
+        DocumentImportResult result = service.importDocuments(stream(Arrays.copyOf(gzipped, gzipped.length / 2)), DocumentImportFormat.NDJSON, 0);
+
+        assertThat(result.status()).isEqualTo(DocumentImportStatus.ABORTED);
+        assertThat(result.imported()).isPositive();
+        assertThat(result.lastCommittedRecordNumber()).isEqualTo(result.imported());
+        assertThat(result.error()).isNotBlank();
+    }
+
+    @Test
+    void resumesAfterLastCommittedRecord() {
+        String ndjson = "{\"title\":\"Doc 1\",\"author\":\"a\"}\n"
+                + "{\"author\":\"b\"}\n"
+                + "{\"title\":\"Doc 3\",\"author\":\"c\"}\n";
+
+        DocumentImportResult result = service.importDocuments(stream(ndjson.getBytes(StandardCharsets.UTF_8)), DocumentImportFormat.NDJSON, 2);
+
+        assertThat(result.status()).isEqualTo(DocumentImportStatus.COMPLETED);
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.rejected()).isZero();
+        assertThat(result.lastCommittedRecordNumber()).isEqualTo(3);
+
+        ArgumentCaptor<List<Document>> chunks = chunkCaptor();
+        verify(documentBulkLoader).loadDrafts(chunks.capture());
+        assertThat(chunks.getValue()).extracting(Document::getTitle).containsExactly("Doc 3");
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Document>> chunkCaptor() {
+        return ArgumentCaptor.forClass((Class<List<Document>>) (Class<?>) List.class);
+    }
+
+    private ByteArrayInputStream stream(byte[] bytes) {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    private byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return out.toByteArray();
+    }
+
+}
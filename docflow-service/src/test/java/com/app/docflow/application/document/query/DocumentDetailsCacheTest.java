@@ -0,0 +1,176 @@
+package com.app.docflow.application.document.query;
+
+import com.app.docflow.application.document.query.model.DocumentDetailsView;
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.Document;
+import com.app.docflow.domain.document.DocumentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentDetailsCacheTest {
+
+    private static final long TTL_MS = 30_000;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void submittedDocumentExpiresAfterTtl() {
+        DocumentDetailsCache cache = cache(settings());
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, key -> load(key, DocumentStatus.SUBMITTED, 2L));
+        advance(Duration.ofMillis(TTL_MS - 1));
+        cache.get(id, key -> load(key, DocumentStatus.SUBMITTED, 2L));
+        advance(Duration.ofMillis(2));
+        cache.get(id, key -> load(key, DocumentStatus.SUBMITTED, 2L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void approvedDocumentDoesNotExpire() {
+        DocumentDetailsCache cache = cache(settings());
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, key -> load(key, DocumentStatus.APPROVED, 3L));
+        advance(Duration.ofDays(365));
+        cache.get(id, key -> load(key, DocumentStatus.APPROVED, 3L));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidateKeepsEntryAlreadyAtCommittedVersion() {
+        DocumentDetailsCache cache = cache(settings());
+        UUID staleId = UUID.randomUUID();
+        UUID freshId = UUID.randomUUID();
+
+        cache.get(staleId, key -> load(key, DocumentStatus.DRAFT, 1L));
+        cache.get(freshId, key -> load(key, DocumentStatus.SUBMITTED, 2L));
+
+        cache.invalidate(staleId, 2L);
+        cache.invalidate(freshId, 2L);
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.get(freshId, key -> load(key, DocumentStatus.SUBMITTED, 2L));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidateEvictsAgainAfterCommit() {
+        DocumentDetailsCache cache = cache(settings());
+        UUID id = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate(id, 2L);
+        cache.get(id, key -> load(key, DocumentStatus.DRAFT, 1L));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void doesNotCacheLoadOlderThanLastInvalidatedVersion() {
+        DocumentDetailsCache cache = cache(settings());
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, key -> load(key, DocumentStatus.SUBMITTED, 1L));
+        cache.invalidate(id, 2L);
+
+        DocumentDetailsView lagging = cache.get(id, key -> load(key, DocumentStatus.SUBMITTED, 1L));
+
+        assertThat(lagging.document().getVersion()).isEqualTo(1L);
+        assertThat(cache.peek(id)).isEmpty();
+
+        cache.get(id, key -> load(key, DocumentStatus.APPROVED, 2L));
+
+        assertThat(cache.peek(id)).hasValueSatisfying(view -> assertThat(view.document().getVersion()).isEqualTo(2L));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void maximumSizeBoundsTheCache() {
+        DocflowProperties.DetailsCache settings = settings();
+        settings.setMaximumSize(2);
+        DocumentDetailsCache cache = cache(settings);
+
+        for (int i = 0; i < 10; i++) {
+            cache.get(UUID.randomUUID(), key -> load(key, DocumentStatus.APPROVED, 3L));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        DocflowProperties.DetailsCache settings = settings();
+        settings.setEnabled(false);
+        DocumentDetailsCache cache = cache(settings);
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, key -> load(key, DocumentStatus.APPROVED, 3L));
+        cache.get(id, key -> load(key, DocumentStatus.APPROVED, 3L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void exportsHitAndMissCounters() {
+        DocflowProperties properties = new DocflowProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DocumentDetailsCache cache = new DocumentDetailsCache(properties, meterRegistry);
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, key -> load(key, DocumentStatus.APPROVED, 3L));
+        cache.get(id, key -> load(key, DocumentStatus.APPROVED, 3L));
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", DocumentDetailsCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", DocumentDetailsCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", DocumentDetailsCache.CACHE_NAME).functionCounter()).isNotNull();
+    }
+
+    private DocumentDetailsCache cache(DocflowProperties.DetailsCache settings) {
+        return new DocumentDetailsCache(settings, nanos::get);
+    }
+
+    private DocflowProperties.DetailsCache settings() {
+        DocflowProperties.DetailsCache settings = new DocflowProperties.DetailsCache();
+        settings.setTtlMs(TTL_MS);
+        return settings;
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private DocumentDetailsView load(UUID id, DocumentStatus status, long version) {
+        loads.incrementAndGet();
+        Instant now = Instant.parse("2026-02-23T10:00:00Z");
+        Document document = Document.restore(id, version, "DOC-00000001", "Title", "alice", "content", status, now, now);
+        return new DocumentDetailsView(document, List.of(), null);
+    }
+
+}
@@ -1,11 +1,11 @@
 package com.app.docflow.application.document.query;
 
 import com.app.docflow.application.document.query.model.DocumentDetailsView;
+import com.app.docflow.config.DocflowProperties;
 import com.app.docflow.domain.document.ApprovalRegistryRecord;
-import com.app.docflow.domain.document.ApprovalRegistryRepository;
 import com.app.docflow.domain.document.Document;
+import com.app.docflow.domain.document.DocumentDetails;
 import com.app.docflow.domain.document.DocumentHistoryEntry;
-import com.app.docflow.domain.document.DocumentHistoryRepository;
 import com.app.docflow.domain.document.DocumentNotFoundException;
 import com.app.docflow.domain.document.DocumentPage;
 import com.app.docflow.domain.document.DocumentRepository;
@@ -13,19 +13,24 @@ import com.app.docflow.domain.document.DocumentSearchCriteria;
 import com.app.docflow.domain.document.DocumentStatus;
 import com.app.docflow.domain.document.PageQuery;
 import com.app.docflow.domain.document.SortDirection;
+import com.github.benmanes.caffeine.cache.Ticker;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,11 +40,11 @@ class DocumentQueryServiceTest {
     @Mock
     private DocumentRepository documentRepository;
 
-    @Mock
-    private DocumentHistoryRepository documentHistoryRepository;
+    @Spy
+    private DocumentDetailsCache documentDetailsCache = new DocumentDetailsCache(new DocflowProperties.DetailsCache(), Ticker.systemTicker());
 
-    @Mock
-    private ApprovalRegistryRepository approvalRegistryRepository;
+    @Spy
+    private DocumentStatusWaiters documentStatusWaiters = new DocumentStatusWaiters(new DocflowProperties.StatusAwait());
 
     @InjectMocks
     private DocumentQueryService service;
@@ -52,11 +57,12 @@ class DocumentQueryServiceTest {
         ApprovalRegistryRecord registryRecord = ApprovalRegistryRecord.restore(UUID.randomUUID(), id, "APR-00000001",
                 Instant.parse("2026-02-23T10:05:00Z"));
 
-        when(documentRepository.findById(id)).thenReturn(Optional.of(document));
-        when(documentHistoryRepository.findByDocumentId(id)).thenReturn(history);
-        when(approvalRegistryRepository.findByDocumentId(id)).thenReturn(Optional.of(registryRecord));
+        when(documentRepository.findDetailsById(id)).thenReturn(Optional.of(new DocumentDetails(document, history, registryRecord)));
 
         DocumentDetailsView result = service.getDocument(id);
+        service.getDocument(id);
+
+        verify(documentRepository, times(1)).findDetailsById(id);
 
         assertThat(result.document()).isEqualTo(document);
         assertThat(result.history()).isEqualTo(history);
@@ -66,13 +72,63 @@ class DocumentQueryServiceTest {
     @Test
     void getDocumentThrowsWhenDocumentNotFound() {
         UUID id = UUID.randomUUID();
-        when(documentRepository.findById(id)).thenReturn(Optional.empty());
+        when(documentRepository.findDetailsById(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.getDocument(id))
                 .isInstanceOf(DocumentNotFoundException.class)
                 .hasMessageContaining(id.toString());
     }
 
+    @Test
+    void awaitStatusCompletesImmediatelyWhenStatusAlreadyReached() {
+        UUID id = UUID.randomUUID();
+        when(documentRepository.findStatusById(id)).thenReturn(Optional.of(DocumentStatus.APPROVED));
+
+        CompletableFuture<DocumentStatus> reached = service.awaitStatus(id, DocumentStatus.SUBMITTED, Duration.ofSeconds(30));
+
+        assertThat(reached).isCompletedWithValue(DocumentStatus.APPROVED);
+        assertThat(documentStatusWaiters.size()).isZero();
+    }
+
+    @Test
+    void awaitStatusReadsStatusPastCachedDetails() {
+        UUID id = UUID.randomUUID();
+        when(documentRepository.findDetailsById(id))
+                .thenReturn(Optional.of(new DocumentDetails(document(id, DocumentStatus.SUBMITTED), List.of(), null)));
+        when(documentRepository.findStatusById(id)).thenReturn(Optional.of(DocumentStatus.APPROVED));
+        service.getDocument(id);
+
+        CompletableFuture<DocumentStatus> reached = service.awaitStatus(id, DocumentStatus.APPROVED, Duration.ofSeconds(30));
+
+        assertThat(reached).isCompletedWithValue(DocumentStatus.APPROVED);
+    }
+
+    @Test
+    void awaitStatusParksUntilTransitionIsSignalled() {
+        UUID id = UUID.randomUUID();
+        when(documentRepository.findStatusById(id)).thenReturn(Optional.of(DocumentStatus.DRAFT));
+
+        CompletableFuture<DocumentStatus> reached = service.awaitStatus(id, DocumentStatus.APPROVED, Duration.ofSeconds(30));
+
+        assertThat(reached).isNotDone();
+        assertThat(documentStatusWaiters.size()).isEqualTo(1);
+
+        documentStatusWaiters.statusChanged(id, DocumentStatus.APPROVED);
+
+        assertThat(reached).isCompletedWithValue(DocumentStatus.APPROVED);
+        assertThat(documentStatusWaiters.size()).isZero();
+    }
+
+    @Test
+    void awaitStatusReleasesWaiterWhenDocumentNotFound() {
+        UUID id = UUID.randomUUID();
+        when(documentRepository.findStatusById(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.awaitStatus(id, DocumentStatus.APPROVED, Duration.ofSeconds(30)))
+                .isInstanceOf(DocumentNotFoundException.class);
+        assertThat(documentStatusWaiters.size()).isZero();
+    }
+
     @Test
     void getByIdsRejectsEmptyIds() {
         PageQuery pageQuery = new PageQuery(0, 20, "createdAt", SortDirection.DESC);
@@ -82,6 +138,15 @@ class DocumentQueryServiceTest {
                 .hasMessage("ids must not be empty");
     }
 
+    @Test
+    void getSummariesByIdsRejectsEmptyIds() {
+        PageQuery pageQuery = new PageQuery(0, 20, "createdAt", SortDirection.DESC);
+
+        assertThatThrownBy(() -> service.getSummariesByIds(List.of(), pageQuery))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("ids must not be empty");
+    }
+
     @Test
     void searchDelegatesToRepository() {
         DocumentSearchCriteria criteria = new DocumentSearchCriteria(null, DocumentStatus.DRAFT, "alice", null, null);
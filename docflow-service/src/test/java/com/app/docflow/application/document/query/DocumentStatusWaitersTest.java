@@ -0,0 +1,112 @@
+package com.app.docflow.application.document.query;
+
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentStatusWaitersTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void wakesWaiterOnlyAfterCommit() {
+        DocumentStatusWaiters waiters = waiters(10);
+        UUID id = UUID.randomUUID();
+        CompletableFuture<DocumentStatus> reached = waiters.register(id, DocumentStatus.SUBMITTED, TIMEOUT);
+
+        TransactionSynchronizationManager.initSynchronization();
+        waiters.statusChanged(id, DocumentStatus.SUBMITTED);
+
+        assertThat(reached).isNotDone();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(reached).isCompletedWithValue(DocumentStatus.SUBMITTED);
+        assertThat(waiters.size()).isZero();
+    }
+
+    @Test
+    void keepsWaitingUntilAwaitedStatusIsReached() {
+        DocumentStatusWaiters waiters = waiters(10);
+        UUID id = UUID.randomUUID();
+        CompletableFuture<DocumentStatus> approved = waiters.register(id, DocumentStatus.APPROVED, TIMEOUT);
+        CompletableFuture<DocumentStatus> submitted = waiters.register(id, DocumentStatus.SUBMITTED, TIMEOUT);
+        CompletableFuture<DocumentStatus> other = waiters.register(UUID.randomUUID(), DocumentStatus.SUBMITTED, TIMEOUT);
+
+        waiters.statusChanged(id, DocumentStatus.SUBMITTED);
+
+        assertThat(submitted).isCompletedWithValue(DocumentStatus.SUBMITTED);
+        assertThat(approved).isNotDone();
+        assertThat(other).isNotDone();
+        assertThat(waiters.size()).isEqualTo(2);
+
+        waiters.statusChanged(id, DocumentStatus.APPROVED);
+
+        assertThat(approved).isCompletedWithValue(DocumentStatus.APPROVED);
+        assertThat(waiters.size()).isEqualTo(1);
+    }
+
+    @Test
+    void wakesWaitersFromStatusChangedEventOfAnotherNode() {
+        DocumentStatusWaiters waiters = waiters(10);
+        UUID id = UUID.randomUUID();
+        CompletableFuture<DocumentStatus> reached = waiters.register(id, DocumentStatus.APPROVED, TIMEOUT);
+
+        waiters.onDocumentStatusChanged(new DocumentStatusChangedEvent(DocumentStatus.APPROVED, List.of(UUID.randomUUID(), id)));
+
+        assertThat(reached).isCompletedWithValue(DocumentStatus.APPROVED);
+        assertThat(waiters.size()).isZero();
+    }
+
+    @Test
+    void rejectsWaitersAboveLimitAndFreesSlotOnCancel() {
+        DocumentStatusWaiters waiters = waiters(1);
+        UUID id = UUID.randomUUID();
+        CompletableFuture<DocumentStatus> first = waiters.register(id, DocumentStatus.APPROVED, TIMEOUT);
+
+        assertThatThrownBy(() -> waiters.register(id, DocumentStatus.APPROVED, TIMEOUT))
+                .isInstanceOf(StatusAwaitLimitExceededException.class);
+
+        first.cancel(false);
+
+        assertThat(waiters.size()).isZero();
+        assertThat(waiters.register(id, DocumentStatus.APPROVED, TIMEOUT)).isNotDone();
+    }
+
+    @Test
+    void rejectsTimeoutAboveMaximum() {
+        DocumentStatusWaiters waiters = waiters(10);
+
+        assertThatThrownBy(() -> waiters.register(UUID.randomUUID(), DocumentStatus.APPROVED, Duration.ofMinutes(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> waiters.register(UUID.randomUUID(), DocumentStatus.APPROVED, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(waiters.size()).isZero();
+    }
+
+    private DocumentStatusWaiters waiters(int maxWaiters) {
+        DocflowProperties.StatusAwait settings = new DocflowProperties.StatusAwait();
+        settings.setMaxWaiters(maxWaiters);
+        return new DocumentStatusWaiters(settings);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.app.docflow.application.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchItemExecutorTest {
+
+    @Test
+    void invokeAllReturnsResultsInTaskOrderWhenRunningInParallel() {
+        try (BatchItemExecutor executor = new BatchItemExecutor(Executors.newFixedThreadPool(4), 4)) {
+            List<Supplier<Integer>> tasks = new ArrayList<>();
+
+            for (int i = 0; i < 20; i++) {
+                int value = i;
+                tasks.add(() -> {
+                    sleepMillis(20 - value);
+                    return value;
+                });
+            }
+
+            assertThat(executor.invokeAll(tasks)).containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+        }
+    }
+
+    @Test
+    void invokeAllRunsTasksConcurrentlyUpToParallelism() throws InterruptedException {
+        CountDownLatch allStarted = new CountDownLatch(3);
+
+        try (BatchItemExecutor executor = new BatchItemExecutor(Executors.newFixedThreadPool(3), 3)) {
+            List<Supplier<Boolean>> tasks = new ArrayList<>();
+
+            for (int i = 0; i < 3; i++) {
+                tasks.add(() -> {
+                    allStarted.countDown();
+                    return awaitLatch(allStarted);
+                });
+            }
+
+            assertThat(executor.invokeAll(tasks)).containsOnly(true);
+        }
+    }
+
+    @Test
+    void invokeAllRethrowsTaskRuntimeException() {
+        try (BatchItemExecutor executor = new BatchItemExecutor(Executors.newFixedThreadPool(2), 2)) {
+            List<Supplier<Integer>> tasks = List.of(() -> 1, () -> {
+                throw new IllegalStateException("boom");
+            });
+
+            assertThatThrownBy(() -> executor.invokeAll(tasks))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        }
+    }
+
+    @Test
+    void sequentialExecutorRunsTasksOnCallerThread() {
+        Thread caller = Thread.currentThread();
+        BatchItemExecutor executor = BatchItemExecutor.sequential();
+
+        List<Boolean> result = executor.invokeAll(List.of(() -> Thread.currentThread() == caller));
+
+        assertThat(result).containsExactly(true);
+        assertThat(executor.parallelism()).isEqualTo(1);
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean awaitLatch(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
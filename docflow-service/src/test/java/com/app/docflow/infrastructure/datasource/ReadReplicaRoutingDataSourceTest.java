@@ -0,0 +1,127 @@
+package com.app.docflow.infrastructure.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MS = 5000;
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private DataSource primaryDataSource;
+
+    @Mock
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @Test
+    void routesToPrimaryUntilFirstSuccessfulHealthCheck() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        ReadReplicaMonitor monitor = new ReadReplicaMonitor(replicaJdbcTemplate, MAX_LAG_MS);
+
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routing(monitor).getConnection()).isSameAs(primaryConnection);
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    void routesToReplicaWhenLagIsWithinThreshold() throws SQLException {
+        Connection replicaConnection = mock(Connection.class);
+        ReadReplicaMonitor monitor = new ReadReplicaMonitor(replicaJdbcTemplate, MAX_LAG_MS);
+
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(120L);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        monitor.check();
+
+        assertThat(monitor.getLagMs()).isEqualTo(120L);
+        assertThat(routing(monitor).getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void routesToPrimaryWhenPrimaryReadIsRequiredEvenIfReplicaIsHealthy() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        ReadReplicaMonitor monitor = new ReadReplicaMonitor(replicaJdbcTemplate, MAX_LAG_MS);
+
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        monitor.check();
+
+        boolean previous = PrimaryReadRouting.requirePrimary();
+
+        try {
+            assertThat(routing(monitor).getConnection()).isSameAs(primaryConnection);
+        } finally {
+            PrimaryReadRouting.restore(previous);
+        }
+
+        assertThat(PrimaryReadRouting.isPrimaryRequired()).isFalse();
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLagsPastThreshold() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        ReadReplicaMonitor monitor = new ReadReplicaMonitor(replicaJdbcTemplate, MAX_LAG_MS);
+
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(100L, MAX_LAG_MS + 1);
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        monitor.check();
+        monitor.check();
+
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(routing(monitor).getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenHealthCheckFails() {
+        ReadReplicaMonitor monitor = new ReadReplicaMonitor(replicaJdbcTemplate, MAX_LAG_MS);
+
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .thenReturn(0L)
+                .thenThrow(new DataAccessResourceFailureException("replica down"));
+        monitor.check();
+        monitor.check();
+
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(monitor.getLagMs()).isEqualTo(-1L);
+    }
+
+    @Test
+    void fallsBackToPrimaryAndMarksReplicaUnavailableWhenConnectionFails() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        ReadReplicaMonitor monitor = new ReadReplicaMonitor(replicaJdbcTemplate, MAX_LAG_MS);
+
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("Connection is not available"));
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        monitor.check();
+
+        assertThat(routing(monitor).getConnection()).isSameAs(primaryConnection);
+        assertThat(monitor.isAvailable()).isFalse();
+    }
+
+    private ReadReplicaRoutingDataSource routing(ReadReplicaMonitor monitor) {
+        return new ReadReplicaRoutingDataSource(replicaDataSource, primaryDataSource, monitor);
+    }
+
+}
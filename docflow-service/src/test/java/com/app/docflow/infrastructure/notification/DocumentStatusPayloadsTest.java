@@ -0,0 +1,40 @@
+package com.app.docflow.infrastructure.notification;
+
+import com.app.docflow.domain.document.DocumentStatus;
+import com.app.docflow.domain.document.DocumentStatusChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentStatusPayloadsTest {
+
+    @Test
+    void encodesStatusOnlyPayloadWhenNoIdsAreGiven() {
+        assertThat(DocumentStatusPayloads.encode(DocumentStatus.DRAFT, List.of())).containsExactly("DRAFT");
+        assertThat(DocumentStatusPayloads.decode("DRAFT")).contains(new DocumentStatusChangedEvent(DocumentStatus.DRAFT));
+    }
+
+    @Test
+    void splitsIdsIntoBoundedPayloadsAndDecodesThemBack() {
+        List<UUID> ids = IntStream.range(0, DocumentStatusPayloads.MAX_IDS_PER_PAYLOAD + 1).mapToObj(i -> UUID.randomUUID()).toList();
+
+        List<String> payloads = DocumentStatusPayloads.encode(DocumentStatus.APPROVED, ids);
+
+        assertThat(payloads).hasSize(2);
+        assertThat(payloads).allSatisfy(payload -> assertThat(payload).hasSizeLessThan(8000));
+        assertThat(payloads.stream().map(DocumentStatusPayloads::decode).flatMap(event -> event.orElseThrow().documentIds().stream()))
+                .containsExactlyElementsOf(ids);
+        assertThat(DocumentStatusPayloads.decode(payloads.get(1)).orElseThrow().status()).isEqualTo(DocumentStatus.APPROVED);
+    }
+
+    @Test
+    void ignoresMalformedPayloads() {
+        assertThat(DocumentStatusPayloads.decode("ARCHIVED")).isEmpty();
+        assertThat(DocumentStatusPayloads.decode("SUBMITTED:not-a-uuid")).isEmpty();
+    }
+
+}
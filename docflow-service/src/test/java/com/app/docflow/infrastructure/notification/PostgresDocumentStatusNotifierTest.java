@@ -0,0 +1,101 @@
+package com.app.docflow.infrastructure.notification;
+
+import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.DocumentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresDocumentStatusNotifierTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private DocflowProperties properties;
+    private PostgresDocumentStatusNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DocflowProperties();
+        notifier = new PostgresDocumentStatusNotifier(jdbcTemplate, properties);
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void sendsAllPayloadsInOneStatementOnCallerConnection() throws SQLException {
+        UUID id = UUID.randomUUID();
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        Array payloads = mock(Array.class);
+
+        notifier.statusChanged(DocumentStatus.SUBMITTED, List.of(id));
+
+        verify(jdbcTemplate).query(eq(PostgresDocumentStatusNotifier.NOTIFY_SQL), setter.capture(), any(RowCallbackHandler.class));
+
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.createArrayOf("text", new Object[]{"SUBMITTED:" + id})).thenReturn(payloads);
+        setter.getValue().setValues(statement);
+
+        verify(statement).setString(1, PostgresDocumentStatusNotifier.CHANNEL);
+        verify(statement).setArray(2, payloads);
+    }
+
+    @Test
+    void notificationFailureRollsBackSurroundingTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        doThrow(new DataAccessResourceFailureException("notify queue is full")).when(jdbcTemplate)
+                .query(eq(PostgresDocumentStatusNotifier.NOTIFY_SQL), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+
+        assertThatThrownBy(() -> notifier.statusChanged(DocumentStatus.DRAFT))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    void notificationFailureOutsideTransactionDoesNotPropagate() {
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(jdbcTemplate)
+                .query(eq(PostgresDocumentStatusNotifier.NOTIFY_SQL), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+
+        notifier.statusChanged(DocumentStatus.APPROVED, List.of(UUID.randomUUID()));
+    }
+
+    @Test
+    void doesNothingWhenNotificationsAreDisabled() {
+        properties.getWorkers().setNotifications(false);
+
+        notifier.statusChanged(DocumentStatus.DRAFT);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+}
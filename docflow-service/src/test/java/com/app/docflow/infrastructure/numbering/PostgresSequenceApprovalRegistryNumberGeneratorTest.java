@@ -0,0 +1,50 @@
+package com.app.docflow.infrastructure.numbering;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresSequenceApprovalRegistryNumberGeneratorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostgresSequenceApprovalRegistryNumberGenerator generator;
+
+    @Test
+    void nextRegistryNumbersReservesWholeBatchInSingleQuery() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(3))).thenReturn(List.of(12L, 10L, 11L));
+
+        assertThat(generator.nextRegistryNumbers(3)).containsExactly("APR-00000010", "APR-00000011", "APR-00000012");
+    }
+
+    @Test
+    void nextRegistryNumbersSkipsQueryForEmptyBatch() {
+        assertThat(generator.nextRegistryNumbers(0)).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void nextRegistryNumbersFailsWhenSequenceReturnsFewerValues() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(2))).thenReturn(List.of(1L));
+
+        assertThatThrownBy(() -> generator.nextRegistryNumbers(2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed to generate approval registry number");
+    }
+
+}
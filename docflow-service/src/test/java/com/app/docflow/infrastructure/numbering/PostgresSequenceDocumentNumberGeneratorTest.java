@@ -0,0 +1,121 @@
+package com.app.docflow.infrastructure.numbering;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresSequenceDocumentNumberGeneratorTest {
+
+    private static final long BLOCK_SIZE = 50;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostgresSequenceDocumentNumberGenerator generator;
+
+    @Test
+    void handsOutNumbersFromReservedBlockAndFetchesNextBlockWhenExhausted() throws Exception {
+        stubSequence(new AtomicLong(1));
+
+        List<String> numbers = new ArrayList<>();
+
+        for (int i = 0; i < BLOCK_SIZE + 1; i++) {
+            numbers.add(generator.nextDocumentNumber());
+        }
+
+        assertThat(numbers.get(0)).isEqualTo("DOC-00000001");
+        assertThat(numbers.get(49)).isEqualTo("DOC-00000050");
+        assertThat(numbers.get(50)).isEqualTo("DOC-00000051");
+        verify(jdbcTemplate, times(2)).query(anyString(), ArgumentMatchers.<ResultSetExtractor<Object>>any());
+    }
+
+    @Test
+    void nextDocumentNumbersDrainsCurrentBlockAndFetchesMissingBlocksInOneQuery() throws Exception {
+        stubSequence(new AtomicLong(1));
+        generator.nextDocumentNumber();
+
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(), eq(71))).thenAnswer(invocation -> {
+            RowMapper<Object> rowMapper = invocation.getArgument(1);
+            List<Object> blocks = new ArrayList<>();
+
+            for (long blockStart : new long[]{51, 101}) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("block_start")).thenReturn(blockStart);
+                when(rs.getLong("block_size")).thenReturn(BLOCK_SIZE);
+                blocks.add(rowMapper.mapRow(rs, blocks.size()));
+            }
+
+            return blocks;
+        });
+
+        List<String> numbers = generator.nextDocumentNumbers(120);
+
+        assertThat(numbers).hasSize(120).doesNotHaveDuplicates();
+        assertThat(numbers.get(0)).isEqualTo("DOC-00000002");
+        assertThat(numbers.get(119)).isEqualTo("DOC-00000121");
+        assertThat(generator.nextDocumentNumber()).isEqualTo("DOC-00000122");
+    }
+
+    @Test
+    void concurrentCallersNeverReceiveDuplicateNumbers() throws Exception {
+        stubSequence(new AtomicLong(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 1000; i++) {
+                futures.add(executor.submit(generator::nextDocumentNumber));
+            }
+
+            Set<String> numbers = new HashSet<>();
+
+            for (Future<String> future : futures) {
+                numbers.add(future.get());
+            }
+
+            assertThat(numbers).hasSize(1000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void stubSequence(AtomicLong sequence) throws Exception {
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<ResultSetExtractor<Object>>any())).thenAnswer(invocation -> {
+            long blockStart = sequence.getAndAdd(BLOCK_SIZE);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.next()).thenReturn(true);
+            when(rs.getLong("block_start")).thenReturn(blockStart);
+            when(rs.getLong("block_size")).thenReturn(BLOCK_SIZE);
+            ResultSetExtractor<Object> extractor = invocation.getArgument(1);
+            return extractor.extractData(rs);
+        });
+    }
+
+}
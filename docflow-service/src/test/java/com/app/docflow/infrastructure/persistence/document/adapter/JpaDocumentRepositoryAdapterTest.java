@@ -1,25 +1,46 @@
 package com.app.docflow.infrastructure.persistence.document.adapter;
 
+import com.app.docflow.domain.document.ApprovalRegistryWriteException;
+import com.app.docflow.domain.document.ClaimedDocument;
 import com.app.docflow.domain.document.Document;
 import com.app.docflow.domain.document.DocumentConflictException;
+import com.app.docflow.domain.document.DocumentDetails;
 import com.app.docflow.domain.document.DocumentStatus;
 import com.app.docflow.infrastructure.persistence.document.entity.DocumentEntity;
 import com.app.docflow.infrastructure.persistence.document.mapper.DocumentPersistenceMapper;
 import com.app.docflow.infrastructure.persistence.document.repository.SpringDataDocumentJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +52,15 @@ class JpaDocumentRepositoryAdapterTest {
     @Mock
     private DocumentPersistenceMapper mapper;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private JpaDocumentRepositoryAdapter adapter;
 
@@ -46,6 +76,65 @@ class JpaDocumentRepositoryAdapterTest {
                 .hasMessageContaining("Concurrent modification conflict");
     }
 
+    @Test
+    void updateStatusWritesOnlyStatusColumnsAndIncrementsVersion() {
+        UUID id = UUID.randomUUID();
+        Document submitted = document(id, DocumentStatus.SUBMITTED);
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+        when(jdbcTemplate.update(sqlCaptor.capture(), eq("SUBMITTED"), any(OffsetDateTime.class), eq(id), eq(1L))).thenReturn(1);
+
+        Document result = adapter.updateStatus(submitted);
+
+        assertThat(result.getVersion()).isEqualTo(2L);
+        assertThat(result.getStatus()).isEqualTo(DocumentStatus.SUBMITTED);
+        assertThat(sqlCaptor.getValue()).doesNotContain("content").doesNotContain("title").contains("version = ?");
+    }
+
+    @Test
+    void updateStatusThrowsConflictWhenVersionDoesNotMatch() {
+        Document submitted = document(UUID.randomUUID(), DocumentStatus.SUBMITTED);
+
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(0);
+
+        assertThatThrownBy(() -> adapter.updateStatus(submitted))
+                .isInstanceOf(DocumentConflictException.class)
+                .hasMessage("Concurrent modification conflict");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findDetailsByIdMapsDocumentAggregatedHistoryAndRegistryFromSingleRow() {
+        UUID id = UUID.randomUUID();
+        UUID historyId = UUID.randomUUID();
+        UUID registryId = UUID.randomUUID();
+        Instant now = Instant.parse("2026-02-23T10:00:00Z");
+        Query query = mock(Query.class);
+        NativeQuery<Object[]> nativeQuery = mock(NativeQuery.class, RETURNS_SELF);
+        String history = """
+                [{"id":"%s","action":"CREATED","fromStatus":null,"toStatus":"DRAFT","message":"Document created",\
+                "createdAt":"2026-02-23T13:00:00.123456+03:00"}]""".formatted(historyId);
+
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.setParameter(1, id)).thenReturn(query);
+        when(query.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+        doReturn(List.<Object[]>of(new Object[]{id, 3L, "DOC-00000001", "Title", "alice", "content", "APPROVED", now, now,
+                registryId, "APR-00000001", now, history})).when(nativeQuery).getResultList();
+
+        DocumentDetails details = adapter.findDetailsById(id).orElseThrow();
+
+        assertThat(details.document().getVersion()).isEqualTo(3L);
+        assertThat(details.document().getStatus()).isEqualTo(DocumentStatus.APPROVED);
+        assertThat(details.history()).singleElement().satisfies(entry -> {
+            assertThat(entry.getId()).isEqualTo(historyId);
+            assertThat(entry.getDocumentId()).isEqualTo(id);
+            assertThat(entry.getFromStatus()).isNull();
+            assertThat(entry.getCreatedAt()).isEqualTo(Instant.parse("2026-02-23T10:00:00.123456Z"));
+        });
+        assertThat(details.approvalRegistryRecord().getId()).isEqualTo(registryId);
+        assertThat(details.approvalRegistryRecord().getRegistryNumber()).isEqualTo("APR-00000001");
+    }
+
     @Test
     void findAllByIdsMapsEntitiesToDomain() {
         UUID id = UUID.randomUUID();
@@ -61,6 +150,76 @@ class JpaDocumentRepositoryAdapterTest {
         assertThat(result).containsExactly(domain);
     }
 
+    @Test
+    void claimByStatusPassesLeaseStatusAndLimitToClaimQuery() {
+        ClaimedDocument claimed = new ClaimedDocument(UUID.randomUUID(), Instant.parse("2026-02-23T10:00:00Z"));
+
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<ClaimedDocument>>any(), eq(30_000L), eq("DRAFT"), eq(50)))
+                .thenReturn(List.of(claimed));
+
+        List<ClaimedDocument> result = adapter.claimByStatus(DocumentStatus.DRAFT, null, 50, Duration.ofSeconds(30));
+
+        assertThat(result).containsExactly(claimed);
+    }
+
+    @Test
+    void claimByStatusContinuesAfterCursor() {
+        ClaimedDocument cursor = new ClaimedDocument(UUID.randomUUID(), Instant.parse("2026-02-23T10:00:00Z"));
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+        when(jdbcTemplate.query(sqlCaptor.capture(), ArgumentMatchers.<RowMapper<ClaimedDocument>>any(), eq(30_000L), eq("DRAFT"),
+                eq(OffsetDateTime.ofInstant(cursor.createdAt(), ZoneOffset.UTC)), eq(cursor.id()), eq(50)))
+                .thenReturn(List.of());
+
+        adapter.claimByStatus(DocumentStatus.DRAFT, cursor, 50, Duration.ofSeconds(30));
+
+        assertThat(sqlCaptor.getValue()).contains("(c.created_at, c.id) > (?, ?)");
+        assertThat(sqlCaptor.getValue()).contains("as has_failure_record");
+    }
+
+    @Test
+    void countByStatusReadsMaintainedCounters() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("SUBMITTED"))).thenReturn(42L);
+
+        assertThat(adapter.countByStatus(DocumentStatus.SUBMITTED)).isEqualTo(42L);
+    }
+
+    @Test
+    void approveAndRegisterBindsReservedRegistryNumberAndReturnsCommittedVersion() {
+        Document approved = document(UUID.randomUUID(), DocumentStatus.APPROVED);
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenAnswer(invocation -> {
+            assertThat((String) invocation.getArgument(0)).doesNotContain("nextval", "'APR-'");
+            assertThat(invocation.getArguments()).contains("APR-00000042", 1L);
+            return List.of(2L);
+        });
+
+        assertThat(adapter.approveAndRegister(approved, "APR-00000042")).isEqualTo(2L);
+    }
+
+    @Test
+    void approveAndRegisterThrowsConflictWhenExpectedVersionDoesNotMatch() {
+        Document approved = document(UUID.randomUUID(), DocumentStatus.APPROVED);
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> adapter.approveAndRegister(approved, "APR-00000042"))
+                .isInstanceOf(DocumentConflictException.class)
+                .hasMessage("Concurrent modification conflict");
+    }
+
+    @Test
+    void approveAndRegisterWrapsIntegrityViolationIntoRegistryWriteException() {
+        Document approved = document(UUID.randomUUID(), DocumentStatus.APPROVED);
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate registry number"));
+
+        assertThatThrownBy(() -> adapter.approveAndRegister(approved, "APR-00000042"))
+                .isInstanceOf(ApprovalRegistryWriteException.class)
+                .hasMessage("Approval registry write failed");
+    }
+
     private Document document(UUID id, DocumentStatus status) {
         Instant now = Instant.parse("2026-02-23T10:00:00Z");
         return Document.restore(id, 1L, "DOC-00000001", "Title", "alice", "content", status, now, now);
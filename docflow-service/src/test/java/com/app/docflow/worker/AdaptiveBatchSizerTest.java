@@ -0,0 +1,107 @@
+package com.app.docflow.worker;
+
+import com.app.docflow.application.document.command.DocumentCommandService;
+import com.app.docflow.config.DocflowProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveBatchSizerTest {
+
+    @Test
+    void growsAdditivelyWhileFullBatchesStayUnderTargetLatency() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(100, settings());
+
+        sizer.record(100, 0, 500);
+        sizer.record(110, 0, 500);
+
+        assertThat(sizer.current()).isEqualTo(120);
+    }
+
+    @Test
+    void doesNotGrowOnPartialBatch() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(100, settings());
+
+        sizer.record(40, 0, 100);
+
+        assertThat(sizer.current()).isEqualTo(100);
+    }
+
+    @Test
+    void shrinksMultiplicativelyOnSlowBatchOrHighErrorRateAndRespectsBounds() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(100, settings());
+
+        sizer.record(100, 0, 5000);
+        assertThat(sizer.current()).isEqualTo(50);
+
+        sizer.record(50, 10, 100);
+        assertThat(sizer.current()).isEqualTo(25);
+
+        sizer.record(25, 0, 5000);
+        sizer.record(12, 0, 5000);
+        assertThat(sizer.current()).isEqualTo(10);
+    }
+
+    @Test
+    void keepsConfiguredBatchSizeWhenDisabled() {
+        DocflowProperties.AdaptiveBatch settings = settings();
+        settings.setEnabled(false);
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(2, settings);
+
+        sizer.record(2, 2, 5000);
+
+        assertThat(sizer.current()).isEqualTo(2);
+    }
+
+    @Test
+    void capsBatchSizeAtServiceBatchLimit() {
+        DocflowProperties.AdaptiveBatch settings = settings();
+        settings.setMaxBatchSize(5000);
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(4000, settings);
+
+        assertThat(sizer.current()).isEqualTo(DocumentCommandService.MAX_BATCH_SIZE);
+
+        sizer.record(DocumentCommandService.MAX_BATCH_SIZE, 0, 10);
+
+        assertThat(sizer.current()).isEqualTo(DocumentCommandService.MAX_BATCH_SIZE);
+    }
+
+    @Test
+    void rejectsDecreaseFactorOutsideOpenUnitInterval() {
+        for (double decreaseFactor : new double[]{0.0, 1.0, 1.5, -0.5, Double.NaN}) {
+            DocflowProperties.AdaptiveBatch settings = settings();
+            settings.setDecreaseFactor(decreaseFactor);
+
+            assertThatThrownBy(() -> new AdaptiveBatchSizer(100, settings))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("decreaseFactor");
+        }
+    }
+
+    @Test
+    void registerExposesCurrentBatchSizeAsGauge() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DocflowProperties properties = new DocflowProperties();
+        properties.setBatchSize(200);
+
+        AdaptiveBatchSizer sizer = AdaptiveBatchSizer.register("submit", properties, meterRegistry);
+        sizer.record(200, 0, 10);
+
+        assertThat(meterRegistry.get(AdaptiveBatchSizer.BATCH_SIZE_METRIC).tag("worker", "submit").gauge().value())
+                .isEqualTo(210.0);
+    }
+
+    private DocflowProperties.AdaptiveBatch settings() {
+        DocflowProperties.AdaptiveBatch settings = new DocflowProperties.AdaptiveBatch();
+        settings.setMinBatchSize(10);
+        settings.setMaxBatchSize(1000);
+        settings.setIncreaseStep(10);
+        settings.setDecreaseFactor(0.5);
+        settings.setTargetLatencyMs(2000);
+        settings.setMaxErrorRate(0.05);
+        return settings;
+    }
+
+}
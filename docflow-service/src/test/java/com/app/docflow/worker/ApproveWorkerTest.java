@@ -4,19 +4,26 @@ import com.app.docflow.application.document.command.DocumentCommandService;
 import com.app.docflow.application.document.command.model.BatchOperationItemResult;
 import com.app.docflow.application.document.command.model.BatchOperationResult;
 import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.ClaimedDocument;
+import com.app.docflow.domain.document.DocumentProcessingFailureRepository;
 import com.app.docflow.domain.document.DocumentRepository;
 import com.app.docflow.domain.document.DocumentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,45 +31,79 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class ApproveWorkerTest {
 
+    private static final Instant CREATED_AT = Instant.parse("2026-02-23T10:00:00Z");
+
     @Mock
     private DocumentRepository documentRepository;
 
     @Mock
     private DocumentCommandService documentCommandService;
 
-    @InjectMocks
+    @Mock
+    private DocumentProcessingFailureRepository failureRepository;
+
     private ApproveWorker worker;
 
     @Test
     void runDoesNothingWhenWorkersDisabled() {
         DocflowProperties properties = new DocflowProperties();
         properties.getWorkers().setEnabled(false);
-        worker = new ApproveWorker(properties, documentRepository, documentCommandService);
+        worker = new ApproveWorker(properties, documentRepository, documentCommandService, failureRepository, new SimpleMeterRegistry());
 
         worker.run();
 
-        verify(documentRepository, never()).findIdsByStatus(DocumentStatus.SUBMITTED, properties.getBatchSize());
+        verify(documentRepository, never()).claimByStatus(eq(DocumentStatus.SUBMITTED), any(), anyInt(), any(Duration.class));
         verify(documentCommandService, never()).approveBatch(anyList());
+        verify(documentCommandService, never()).approveBatchInSingleStatements(anyList());
     }
 
     @Test
     void runProcessesSubmittedDocumentsInBatches() {
         DocflowProperties properties = new DocflowProperties();
         properties.setBatchSize(2);
-        worker = new ApproveWorker(properties, documentRepository, documentCommandService);
+        properties.getAdaptiveBatch().setEnabled(false);
+        worker = new ApproveWorker(properties, documentRepository, documentCommandService, failureRepository, new SimpleMeterRegistry());
+
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        Duration lease = Duration.ofMillis(properties.getWorkers().getClaimLeaseMs());
+
+        when(documentRepository.claimByStatus(DocumentStatus.SUBMITTED, null, 2, lease)).thenReturn(List.of(claimed(id1), claimed(id2)));
+        when(documentRepository.claimByStatus(DocumentStatus.SUBMITTED, claimed(id2), 2, lease)).thenReturn(List.of());
+        when(documentRepository.countByStatus(DocumentStatus.SUBMITTED)).thenReturn(0L);
+        when(documentCommandService.approveBatchInSingleStatements(List.of(id1, id2))).thenReturn(successResult(id1, id2));
+
+        worker.run();
+
+        verify(documentCommandService).approveBatchInSingleStatements(List.of(id1, id2));
+        verify(failureRepository, never()).clear(anyList());
+    }
+
+    @Test
+    void runUsesEntityApproveWhenSingleStatementApproveDisabled() {
+        DocflowProperties properties = new DocflowProperties();
+        properties.setBatchSize(2);
+        properties.getAdaptiveBatch().setEnabled(false);
+        properties.getWorkers().setSingleStatementApprove(false);
+        worker = new ApproveWorker(properties, documentRepository, documentCommandService, failureRepository, new SimpleMeterRegistry());
 
         UUID id1 = UUID.randomUUID();
         UUID id2 = UUID.randomUUID();
+        Duration lease = Duration.ofMillis(properties.getWorkers().getClaimLeaseMs());
 
-        when(documentRepository.findIdsByStatus(DocumentStatus.SUBMITTED, 2))
-                .thenReturn(List.of(id1, id2))
-                .thenReturn(List.of());
+        when(documentRepository.claimByStatus(DocumentStatus.SUBMITTED, null, 2, lease)).thenReturn(List.of(claimed(id1), claimed(id2)));
+        when(documentRepository.claimByStatus(DocumentStatus.SUBMITTED, claimed(id2), 2, lease)).thenReturn(List.of());
         when(documentRepository.countByStatus(DocumentStatus.SUBMITTED)).thenReturn(0L);
         when(documentCommandService.approveBatch(List.of(id1, id2))).thenReturn(successResult(id1, id2));
 
         worker.run();
 
         verify(documentCommandService).approveBatch(List.of(id1, id2));
+        verify(documentCommandService, never()).approveBatchInSingleStatements(anyList());
+    }
+
+    private ClaimedDocument claimed(UUID id) {
+        return new ClaimedDocument(id, CREATED_AT);
     }
 
     private BatchOperationResult successResult(UUID... ids) {
@@ -4,60 +4,101 @@ import com.app.docflow.application.document.command.DocumentCommandService;
 import com.app.docflow.application.document.command.model.BatchOperationItemResult;
 import com.app.docflow.application.document.command.model.BatchOperationResult;
 import com.app.docflow.config.DocflowProperties;
+import com.app.docflow.domain.document.ClaimedDocument;
+import com.app.docflow.domain.document.DocumentFailure;
+import com.app.docflow.domain.document.DocumentProcessingFailureRepository;
 import com.app.docflow.domain.document.DocumentRepository;
+import com.app.docflow.domain.document.DocumentRetryPolicy;
 import com.app.docflow.domain.document.DocumentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.Arrays;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class SubmitWorkerTest {
 
+    private static final Instant CREATED_AT = Instant.parse("2026-02-23T10:00:00Z");
+
     @Mock
     private DocumentRepository documentRepository;
 
     @Mock
     private DocumentCommandService documentCommandService;
 
-    @InjectMocks
+    @Mock
+    private DocumentProcessingFailureRepository failureRepository;
+
     private SubmitWorker worker;
 
     @Test
     void runDoesNothingWhenWorkersDisabled() {
         DocflowProperties properties = new DocflowProperties();
         properties.getWorkers().setEnabled(false);
-        worker = new SubmitWorker(properties, documentRepository, documentCommandService);
+        worker = new SubmitWorker(properties, documentRepository, documentCommandService, failureRepository, new SimpleMeterRegistry());
 
         worker.run();
 
-        verify(documentRepository, never()).findIdsByStatus(DocumentStatus.DRAFT, properties.getBatchSize());
+        verify(documentRepository, never()).claimByStatus(eq(DocumentStatus.DRAFT), any(), anyInt(), any(Duration.class));
         verify(documentCommandService, never()).submitBatch(anyList());
+        verify(documentCommandService, never()).submitBatchInBulk(anyList());
     }
 
     @Test
     void runProcessesDraftDocumentsInBatchesUntilLastPartialBatch() {
         DocflowProperties properties = new DocflowProperties();
         properties.setBatchSize(2);
-        worker = new SubmitWorker(properties, documentRepository, documentCommandService);
+        properties.getAdaptiveBatch().setEnabled(false);
+        worker = new SubmitWorker(properties, documentRepository, documentCommandService, failureRepository, new SimpleMeterRegistry());
+
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        UUID id3 = UUID.randomUUID();
+        Duration lease = Duration.ofMillis(properties.getWorkers().getClaimLeaseMs());
+
+        when(documentRepository.claimByStatus(DocumentStatus.DRAFT, null, 2, lease)).thenReturn(List.of(claimed(id1), claimed(id2)));
+        when(documentRepository.claimByStatus(DocumentStatus.DRAFT, claimed(id2), 2, lease)).thenReturn(List.of(claimed(id3)));
+        when(documentRepository.countByStatus(DocumentStatus.DRAFT)).thenReturn(1L, 0L);
+        when(documentCommandService.submitBatchInBulk(List.of(id1, id2))).thenReturn(successResult(id1, id2));
+        when(documentCommandService.submitBatchInBulk(List.of(id3))).thenReturn(successResult(id3));
+
+        worker.run();
+
+        verify(documentCommandService).submitBatchInBulk(List.of(id1, id2));
+        verify(documentCommandService).submitBatchInBulk(List.of(id3));
+    }
+
+    @Test
+    void runUsesPerItemSubmitWhenBulkSubmitDisabled() {
+        DocflowProperties properties = new DocflowProperties();
+        properties.setBatchSize(2);
+        properties.getAdaptiveBatch().setEnabled(false);
+        properties.getWorkers().setBulkSubmit(false);
+        worker = new SubmitWorker(properties, documentRepository, documentCommandService, failureRepository, new SimpleMeterRegistry());
 
         UUID id1 = UUID.randomUUID();
         UUID id2 = UUID.randomUUID();
         UUID id3 = UUID.randomUUID();
+        Duration lease = Duration.ofMillis(properties.getWorkers().getClaimLeaseMs());
 
-        when(documentRepository.findIdsByStatus(DocumentStatus.DRAFT, 2))
-                .thenReturn(List.of(id1, id2))
-                .thenReturn(List.of(id3));
+        when(documentRepository.claimByStatus(DocumentStatus.DRAFT, null, 2, lease)).thenReturn(List.of(claimed(id1), claimed(id2)));
+        when(documentRepository.claimByStatus(DocumentStatus.DRAFT, claimed(id2), 2, lease)).thenReturn(List.of(claimed(id3)));
         when(documentRepository.countByStatus(DocumentStatus.DRAFT)).thenReturn(1L, 0L);
         when(documentCommandService.submitBatch(List.of(id1, id2))).thenReturn(successResult(id1, id2));
         when(documentCommandService.submitBatch(List.of(id3))).thenReturn(successResult(id3));
@@ -66,6 +107,45 @@ class SubmitWorkerTest {
 
         verify(documentCommandService).submitBatch(List.of(id1, id2));
         verify(documentCommandService).submitBatch(List.of(id3));
+        verify(documentCommandService, never()).submitBatchInBulk(anyList());
+    }
+
+    @Test
+    void runRecordsFailuresWithBackoffAndKeepsScanningPastFailedDocument() {
+        DocflowProperties properties = new DocflowProperties();
+        properties.setBatchSize(2);
+        properties.getAdaptiveBatch().setEnabled(false);
+        worker = new SubmitWorker(properties, documentRepository, documentCommandService, failureRepository, new SimpleMeterRegistry());
+
+        UUID poisonId = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        UUID id3 = UUID.randomUUID();
+        Duration lease = Duration.ofMillis(properties.getWorkers().getClaimLeaseMs());
+
+        ClaimedDocument retriedId2 = new ClaimedDocument(id2, CREATED_AT, true);
+
+        when(documentRepository.claimByStatus(DocumentStatus.DRAFT, null, 2, lease)).thenReturn(List.of(claimed(poisonId), retriedId2));
+        when(documentRepository.claimByStatus(DocumentStatus.DRAFT, retriedId2, 2, lease)).thenReturn(List.of(claimed(id3)));
+        when(documentCommandService.submitBatchInBulk(List.of(poisonId, id2))).thenReturn(new BatchOperationResult(List.of(
+                BatchOperationItemResult.error(poisonId, "Unexpected error"),
+                BatchOperationItemResult.success(id2, "ok")
+        )));
+        when(documentCommandService.submitBatchInBulk(List.of(id3))).thenReturn(successResult(id3));
+
+        worker.run();
+
+        verify(failureRepository).recordFailures(
+                DocumentStatus.DRAFT,
+                List.of(new DocumentFailure(poisonId, "ERROR", "Unexpected error")),
+                new DocumentRetryPolicy(5, Duration.ofSeconds(5), Duration.ofHours(1))
+        );
+        verify(failureRepository).clear(List.of(id2));
+        verify(failureRepository, times(1)).clear(anyList());
+        verify(documentCommandService).submitBatchInBulk(List.of(id3));
+    }
+
+    private ClaimedDocument claimed(UUID id) {
+        return new ClaimedDocument(id, CREATED_AT);
     }
 
     private BatchOperationResult successResult(UUID... ids) {
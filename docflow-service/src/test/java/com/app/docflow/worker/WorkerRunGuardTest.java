@@ -0,0 +1,71 @@
+package com.app.docflow.worker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkerRunGuardTest {
+
+    @Test
+    void wakeUpDuringRunningTaskTriggersSingleRerunInsteadOfConcurrentRun() {
+        WorkerRunGuard guard = new WorkerRunGuard();
+        AtomicInteger runs = new AtomicInteger();
+
+        guard.run(() -> {
+            if (runs.incrementAndGet() == 1) {
+                guard.run(runs::incrementAndGet);
+                guard.run(runs::incrementAndGet);
+            }
+        });
+
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void wakeUpArrivingJustBeforeReleaseTriggersAnotherRun() {
+        AtomicInteger runs = new AtomicInteger();
+        AtomicBoolean wokenUp = new AtomicBoolean();
+        WorkerRunGuard guard = new WorkerRunGuard() {
+            @Override
+            void release() {
+                if (wokenUp.compareAndSet(false, true)) {
+                    run(runs::incrementAndGet);
+                }
+                super.release();
+            }
+        };
+
+        guard.run(runs::incrementAndGet);
+
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void taskFailureReleasesGuard() {
+        WorkerRunGuard guard = new WorkerRunGuard();
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThatThrownBy(() -> guard.run(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        guard.run(runs::incrementAndGet);
+
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void runsTaskAgainAfterPreviousRunFinished() {
+        WorkerRunGuard guard = new WorkerRunGuard();
+        AtomicInteger runs = new AtomicInteger();
+
+        guard.run(runs::incrementAndGet);
+        guard.run(runs::incrementAndGet);
+
+        assertThat(runs).hasValue(2);
+    }
+
+}